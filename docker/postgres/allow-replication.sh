@@ -0,0 +1,5 @@
+#!/bin/bash
+set -e
+
+# lets the postgres-replica service stream WAL from this instance
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
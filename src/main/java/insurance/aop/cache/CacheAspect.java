@@ -1,5 +1,6 @@
 package insurance.aop.cache;
 
+import insurance.config.CacheNames;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -44,6 +45,8 @@ public class CacheAspect {
 
         cacheManager.getCacheNames()
                 .stream()
+                // not-found entries only go stale when their id becomes visible, which evicts them explicitly
+                .filter(cacheName -> !CacheNames.QUOTE_NOT_FOUND_CACHE.equals(cacheName))
                 .map(cacheManager::getCache)
                 .filter(Objects::nonNull)
                 .forEach(Cache::clear);
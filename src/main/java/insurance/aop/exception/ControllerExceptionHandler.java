@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import insurance.config.ApplicationProperties;
 import insurance.service.dto.BaseResponseDto;
 import insurance.web.rest.consts.Header;
+import insurance.web.rest.errors.InsuranceErrorMessages;
 import insurance.web.rest.errors.InsuranceErrorType;
 import insurance.web.rest.errors.InsuranceException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -29,21 +30,16 @@ import java.util.Locale;
 public class ControllerExceptionHandler {
     private final ApplicationProperties applicationProperties;
     private final MessageSource messageSource;
+    private final InsuranceErrorMessages insuranceErrorMessages;
+    private final ErrorLogRateLimiter errorLogRateLimiter;
 
     @ExceptionHandler(InsuranceException.class)
     @ResponseBody
     public ResponseEntity<BaseResponseDto<Void>> handleInsuranceException(HttpServletRequest req, InsuranceException e) {
-        try {
-            var locale = Locale.forLanguageTag(
-                    !StringUtils.isEmpty(req.getHeader(Header.LOCALE)) ? req.getHeader(Header.LOCALE) : "En");
+        var message = insuranceErrorMessages.getMessage(e.getInsuranceErrorType(), req.getHeader(Header.LOCALE));
+        logInsuranceException(e);
 
-            var message = messageSource.getMessage(e.getInsuranceErrorType().getMessageKey(), null, locale);
-            e.setMessage(message);
-
-            return ResponseEntity.status(e.getInsuranceErrorType().getHttpStatus()).body(new BaseResponseDto<>(e, message));
-        } finally {
-            log.info("exception occurred: ", e);
-        }
+        return ResponseEntity.status(e.getInsuranceErrorType().getHttpStatus()).body(new BaseResponseDto<>(e, message));
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -70,6 +66,19 @@ public class ControllerExceptionHandler {
         return getBaseResponseDtoResponseEntity(locale, null, "{" + InsuranceErrorType.BAD_REQUEST.getMessageKey() + "}");
     }
 
+    private void logInsuranceException(InsuranceException e) {
+        var suppressed = errorLogRateLimiter.tryAcquire(e.getInsuranceErrorType());
+        if (suppressed == ErrorLogRateLimiter.SUPPRESSED) {
+            return;
+        }
+
+        if (suppressed > 0) {
+            log.info("exception occurred ({} similar ones suppressed): ", suppressed, e);
+        } else {
+            log.info("exception occurred: ", e);
+        }
+    }
+
     private ResponseEntity<BaseResponseDto<Void>> getBaseResponseDtoResponseEntity(String locale, BindingResult bindingResult, String message) {
         if (StringUtils.isEmpty(locale)) {
             locale = applicationProperties.getLocale();
@@ -0,0 +1,73 @@
+package insurance.aop.exception;
+
+import insurance.config.ApplicationProperties;
+import insurance.web.rest.errors.InsuranceErrorType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lets at most {@code application.error-log.max-per-second} log lines through per error type and counts the rest,
+ * so a client hammering a missing id cannot turn logging into the bottleneck.
+ */
+@Component
+public class ErrorLogRateLimiter {
+    public static final long SUPPRESSED = -1;
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final int maxPerSecond;
+    private final LongSupplier nanoTime;
+    private final Map<InsuranceErrorType, Window> windows = new EnumMap<>(InsuranceErrorType.class);
+
+    @Autowired
+    public ErrorLogRateLimiter(ApplicationProperties applicationProperties) {
+        this(applicationProperties, System::nanoTime);
+    }
+
+    ErrorLogRateLimiter(ApplicationProperties applicationProperties, LongSupplier nanoTime) {
+        this.maxPerSecond = applicationProperties.getErrorLog().getMaxPerSecond();
+        this.nanoTime = nanoTime;
+        for (var insuranceErrorType : InsuranceErrorType.values()) {
+            windows.put(insuranceErrorType, new Window(nanoTime.getAsLong()));
+        }
+    }
+
+    /**
+     * @return {@link #SUPPRESSED} if this occurrence must not be logged, otherwise the number of occurrences
+     * suppressed since the last one that was logged
+     */
+    public long tryAcquire(InsuranceErrorType insuranceErrorType) {
+        return windows.get(insuranceErrorType).tryAcquire(nanoTime.getAsLong(), maxPerSecond);
+    }
+
+    private static final class Window {
+        private final AtomicLong startedAt;
+        private final AtomicInteger logged = new AtomicInteger();
+        private final AtomicLong suppressed = new AtomicLong();
+
+        Window(long now) {
+            this.startedAt = new AtomicLong(now);
+        }
+
+        long tryAcquire(long now, int maxPerWindow) {
+            var start = startedAt.get();
+            if (now - start >= WINDOW_NANOS && startedAt.compareAndSet(start, now)) {
+                logged.set(0);
+            }
+
+            if (logged.incrementAndGet() <= maxPerWindow) {
+                return suppressed.getAndSet(0);
+            }
+
+            suppressed.incrementAndGet();
+            return SUPPRESSED;
+        }
+    }
+}
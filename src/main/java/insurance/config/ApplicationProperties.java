@@ -2,13 +2,286 @@ package insurance.config;
 
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.redisson.api.EvictionMode;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Configuration
 @ConfigurationProperties(prefix = "application", ignoreUnknownFields = false)
 @Data
 @NoArgsConstructor
 public class ApplicationProperties {
     private String locale;
+    /**
+     * Locales whose error messages are resolved at startup; others fall back to English.
+     */
+    private List<String> supportedLocales = List.of("en", "fa");
+    private ErrorLog errorLog = new ErrorLog();
+    private Cache cache = new Cache();
+    private Archival archival = new Archival();
+    private ReadReplica readReplica = new ReadReplica();
+    private Bundle bundle = new Bundle();
+    private RateLimit rateLimit = new RateLimit();
+    private ConcurrencyLimit concurrencyLimit = new ConcurrencyLimit();
+    private BestPriceStream bestPriceStream = new BestPriceStream();
+    private MarketOverview marketOverview = new MarketOverview();
+    private PriceHistory priceHistory = new PriceHistory();
+    private JsonFragmentCache jsonFragmentCache = new JsonFragmentCache();
+    private Tracing tracing = new Tracing();
+    private PriceUpdateBuffer priceUpdateBuffer = new PriceUpdateBuffer();
+    private Sharding sharding = new Sharding();
+
+    @Data
+    @NoArgsConstructor
+    public static class ErrorLog {
+        private int maxPerSecond = 10;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class Cache {
+        /**
+         * Expiry and size bounds of the Spring caches in Redis, by cache name; caches without an entry never expire.
+         */
+        private Map<String, CacheSpec> specs = new LinkedHashMap<>();
+        private SecondLevelCache secondLevel = new SecondLevelCache();
+        private Redis redis = new Redis();
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class CacheSpec {
+        /**
+         * Time after which an entry expires since it was written; unset or zero for never.
+         */
+        private Duration timeToLive;
+        /**
+         * Time after which an entry expires since it was last read or written; unset or zero for never.
+         */
+        private Duration maxIdle;
+        /**
+         * Entries kept before {@code evictionMode} evicts one per write; zero for unbounded.
+         */
+        private int maxSize;
+        private EvictionMode evictionMode = EvictionMode.LRU;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class Redis {
+        /**
+         * Redisson command timeout; a cache call never blocks longer than about {@code (retryAttempts + 1) * timeout}.
+         */
+        private Duration timeout = Duration.ofMillis(200);
+        private int retryAttempts = 1;
+        /**
+         * Failure rate in percent over the last {@code slidingWindowSize} calls that opens the circuit breaker.
+         */
+        private float failureRateThreshold = 50;
+        private int slidingWindowSize = 20;
+        private Duration waitDurationInOpenState = Duration.ofSeconds(10);
+        /**
+         * Evictions kept per cache while Redis is unavailable; beyond this the whole cache is cleared on recovery.
+         */
+        private int maxPendingEvictions = 10_000;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class SecondLevelCache {
+        /**
+         * LOCAL keeps entries in the JVM, so a node's provider reads see changes made on another node after
+         * {@code timeToLive}; writes lock the provider row instead of reading it from the cache. REDIS is shared by all nodes, but is not behind the Spring cache circuit breaker: while
+         * Redis is down, entity and query cache access fails.
+         */
+        private SecondLevelCacheProvider provider = SecondLevelCacheProvider.LOCAL;
+        private Duration timeToLive = Duration.ofMinutes(1);
+        /**
+         * Entries per region, LOCAL only.
+         */
+        private long maximumSize = 10_000;
+    }
+
+    public enum SecondLevelCacheProvider {
+        REDIS,
+        LOCAL,
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class Archival {
+        private boolean enabled;
+        /**
+         * How long a soft-deleted quote stays in the hot table before it is moved to quote_archive.
+         */
+        private Duration retention = Duration.ofDays(30);
+        private int batchSize = 500;
+        private int maxBatchesPerRun = 100;
+        private Duration fixedDelay = Duration.ofHours(1);
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class ReadReplica {
+        private boolean enabled;
+        private List<Replica> replicas = new ArrayList<>();
+        /**
+         * Replicas lagging further behind the primary than this are skipped until they catch up.
+         */
+        private Duration maxLag = Duration.ofSeconds(5);
+        private Duration lagCheckInterval = Duration.ofSeconds(5);
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class Bundle {
+        /**
+         * Full reload of the provider price matrix, to pick up quote writes made by other nodes.
+         */
+        private Duration refreshInterval = Duration.ofMinutes(1);
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class RateLimit {
+        private boolean enabled;
+        /**
+         * Token bucket per client: {@code limitForPeriod} requests every {@code refreshPeriod}.
+         */
+        private int limitForPeriod = 20;
+        private Duration refreshPeriod = Duration.ofSeconds(1);
+        /**
+         * How often buckets of clients that have been idle long enough to be full again are dropped.
+         */
+        private Duration purgeInterval = Duration.ofMinutes(1);
+        /**
+         * Clients tracked at once; clients beyond it share one bucket until idle buckets are purged.
+         */
+        private int maxClients = 100_000;
+        /**
+         * Addresses of the proxies or load balancers in front of the service, whose {@code X-Forwarded-For} is
+         * trusted to name the client. Without them the bucket is keyed on the remote address.
+         */
+        private List<String> trustedProxies = new ArrayList<>();
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class ConcurrencyLimit {
+        private boolean enabled;
+        private int initialLimit = 20;
+        private int minLimit = 2;
+        private int maxLimit = 200;
+        /**
+         * A request slower than this multiple of the long-term average latency is taken as a sign of overload.
+         */
+        private double latencyTolerance = 2.0;
+        /**
+         * Factor the limit is multiplied with on overload.
+         */
+        private double backoffRatio = 0.9;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class BestPriceStream {
+        /**
+         * Connections are closed after this long; clients reconnect.
+         */
+        private Duration timeout = Duration.ofMinutes(30);
+        private Duration heartbeatInterval = Duration.ofSeconds(15);
+        private int maxSubscribers = 10_000;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class MarketOverview {
+        /**
+         * Deadline for all coverage types together; coverage types not done by then are reported as unavailable.
+         */
+        private Duration timeout = Duration.ofSeconds(2);
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class PriceHistory {
+        /**
+         * Largest number of buckets one price history query may span.
+         */
+        private int maxBuckets = 1000;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class JsonFragmentCache {
+        private boolean enabled;
+        /**
+         * Quotes whose encoded JSON is kept in memory, one entry per quote.
+         */
+        private long maximumSize = 100_000;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class Tracing {
+        /**
+         * Writes sampled spans as OTLP JSON lines to {@code file}, next to any OTLP collector export.
+         */
+        private boolean fileExport;
+        private String file = "logs/traces.jsonl";
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class PriceUpdateBuffer {
+        /**
+         * Acknowledges price-only updates right away and writes the latest price per quote every
+         * {@code flushInterval}; acknowledged updates not yet written are lost if the instance dies.
+         */
+        private boolean enabled;
+        private Duration flushInterval = Duration.ofSeconds(1);
+        /**
+         * Quotes written per statement and transaction.
+         */
+        private int batchSize = 500;
+        /**
+         * Quotes buffered at most; updates of further quotes are written synchronously.
+         */
+        private int maxPending = 100_000;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class Sharding {
+        /**
+         * Spreads quotes over {@code spring.datasource} (shard 0) and {@code shards} (shard 1 onwards) by coverage
+         * type; providers are replicated to every shard.
+         */
+        private boolean enabled;
+        private List<Shard> shards = new ArrayList<>();
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
 }
@@ -1,62 +1,97 @@
 package insurance.config;
 
-import jakarta.annotation.PreDestroy;
+import insurance.config.cache.ResilientCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RedissonClient;
 import org.redisson.spring.cache.RedissonSpringCacheManager;
+import org.redisson.spring.starter.RedissonAutoConfigurationCustomizer;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
-import java.lang.reflect.Modifier;
-import java.util.ArrayList;
-import java.util.List;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 
 @Configuration
 @EnableCaching
-@Slf4j
 @RequiredArgsConstructor
 public class CacheConfig {
     private final RedissonClient client;
+    private final ApplicationProperties applicationProperties;
+    private final MeterRegistry meterRegistry;
+    private final ObservationRegistry observationRegistry;
 
     @Bean
     @Primary
-    public CacheManager cacheManager() throws Exception {
-        return getRedissonSpringCacheManager();
+    public CacheManager cacheManager() {
+        var cacheConfigs = getCacheConfigs();
+        return new ResilientCacheManager(getRedissonSpringCacheManager(cacheConfigs), cacheConfigs,
+                applicationProperties.getCache().getRedis(), meterRegistry, observationRegistry);
     }
 
-    @PreDestroy
-    private void shutdownRedissonClient() {
-        if (client != null) {
-            log.info("Shutting down cache manager redisson client");
-            client.shutdown();
-        }
+    /**
+     * Redisson connects on the first Redis call instead of while the context starts, and gives up on a command
+     * quickly, so a stalled Redis trips the cache circuit breaker instead of blocking requests.
+     */
+    @Bean
+    public static RedissonAutoConfigurationCustomizer redissonCustomizer(ApplicationProperties applicationProperties) {
+        var redis = applicationProperties.getCache().getRedis();
+        var timeout = (int) redis.getTimeout().toMillis();
+
+        return config -> {
+            config.setLazyInitialization(true);
+            if (config.isClusterConfig()) {
+                config.useClusterServers().setTimeout(timeout).setRetryAttempts(redis.getRetryAttempts());
+            } else if (config.isSentinelConfig()) {
+                config.useSentinelServers().setTimeout(timeout).setRetryAttempts(redis.getRetryAttempts());
+            } else {
+                config.useSingleServer().setTimeout(timeout).setRetryAttempts(redis.getRetryAttempts());
+            }
+        };
     }
 
-    private RedissonSpringCacheManager getRedissonSpringCacheManager() throws Exception {
+    private RedissonSpringCacheManager getRedissonSpringCacheManager(Map<String, org.redisson.spring.cache.CacheConfig> cacheConfigs) {
         var cacheManager = new RedissonSpringCacheManager(client);
-        cacheManager.setCacheNames(getCacheNames());
+        cacheManager.setConfig(cacheConfigs);
+        cacheManager.setCacheNames(CacheNames.ALL);
 
         return cacheManager;
     }
 
-    private List<String> getCacheNames() throws Exception {
-        var cacheNames = new ArrayList<String>();
-        for (var field : CacheNames.class.getDeclaredFields()) {
-            if (!Modifier.isStatic(field.getModifiers()) || !Modifier.isPublic(field.getModifiers())) {
-                continue;
-            }
+    /**
+     * A cache with any bound is stored as a Redisson map cache, which expires entries and evicts beyond
+     * {@code maxSize}; the others stay plain hashes.
+     */
+    private Map<String, org.redisson.spring.cache.CacheConfig> getCacheConfigs() {
+        // Redisson keeps this map and adds the remaining caches to it, so it has to be mutable
+        var cacheConfigs = new HashMap<String, org.redisson.spring.cache.CacheConfig>();
+        applicationProperties.getCache().getSpecs().forEach((name, spec) ->
+                cacheConfigs.put(getCacheName(name), getCacheConfig(spec)));
+        return cacheConfigs;
+    }
 
-            var obj = field.get(field.getName());
-            if (obj instanceof String str) {
-                cacheNames.add(str);
-            }
-        }
+    private static String getCacheName(String specName) {
+        // specs are keyed without the version, and map keys may arrive lower-cased from environment variables
+        return CacheNames.ALL.stream()
+                .filter(cacheName -> cacheName.equalsIgnoreCase(specName + CacheNames.VERSION))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown cache in application.cache.specs: " + specName));
+    }
+
+    private static org.redisson.spring.cache.CacheConfig getCacheConfig(ApplicationProperties.CacheSpec spec) {
+        var cacheConfig = new org.redisson.spring.cache.CacheConfig(toMillis(spec.getTimeToLive()), toMillis(spec.getMaxIdle()));
+        cacheConfig.setMaxSize(spec.getMaxSize());
+        cacheConfig.setEvictionMode(spec.getEvictionMode());
+        return cacheConfig;
+    }
 
-        return cacheNames;
+    private static long toMillis(Duration duration) {
+        return duration == null ? 0 : duration.toMillis();
     }
 }
@@ -0,0 +1,51 @@
+package insurance.config;
+
+import insurance.service.dto.enumeration.AggregationTypeDto;
+import insurance.service.dto.enumeration.CoverageTypeDto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Key formats shared by the {@code @Cacheable} expressions and the code that evicts single entries.
+ */
+public final class CacheKeys {
+    private static final int ALL_COVERAGE_TYPES = (1 << CoverageTypeDto.values().length) - 1;
+
+    private CacheKeys() {}
+
+    public static String aggregation(AggregationTypeDto aggregationType, CoverageTypeDto coverageType) {
+        return aggregationType.name() + ":" + coverageType.name();
+    }
+
+    /**
+     * Bit {@code ordinal} set for every requested coverage type, so order and duplicates do not matter; no coverage
+     * type means all of them.
+     */
+    public static int quoteList(Collection<CoverageTypeDto> coverageTypes) {
+        if (coverageTypes == null || coverageTypes.isEmpty()) {
+            return ALL_COVERAGE_TYPES;
+        }
+
+        var mask = 0;
+        for (var coverageType : coverageTypes) {
+            mask |= 1 << coverageType.ordinal();
+        }
+        return mask;
+    }
+
+    /**
+     * Keys of every quote list that contains at least one of the given coverage types.
+     */
+    public static List<Integer> quoteListsContaining(Collection<CoverageTypeDto> coverageTypes) {
+        var changed = quoteList(coverageTypes);
+        var keys = new ArrayList<Integer>();
+        for (var mask = 1; mask <= ALL_COVERAGE_TYPES; mask++) {
+            if ((mask & changed) != 0) {
+                keys.add(mask);
+            }
+        }
+        return keys;
+    }
+}
@@ -1,9 +1,21 @@
 package insurance.config;
 
+import java.util.List;
+
 public final class CacheNames {
     private CacheNames() {}
 
-    public static final String AGGREGATED_DATA = "AggregatedData";
-    public static final String QUOTE_CACHE = "QuoteCache";
+    /**
+     * Cached values are Kryo-encoded, so a release that changes a cached DTO cannot read the entries written by the
+     * previous one; bumping this moves every cache to new Redis keys, and the old ones expire under their time-to-live.
+     */
+    static final String VERSION = ":v2";
+
+    public static final String AGGREGATED_DATA = "AggregatedData" + VERSION;
+    public static final String QUOTE_CACHE = "QuoteCache" + VERSION;
+    public static final String QUOTE_NOT_FOUND_CACHE = "QuoteNotFoundCache" + VERSION;
+    public static final String QUOTE_LIST = "QuoteList" + VERSION;
+
+    public static final List<String> ALL = List.of(AGGREGATED_DATA, QUOTE_CACHE, QUOTE_NOT_FOUND_CACHE, QUOTE_LIST);
 
 }
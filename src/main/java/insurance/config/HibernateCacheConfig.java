@@ -0,0 +1,77 @@
+package insurance.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import insurance.domain.CacheRegions;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.redisson.api.RedissonClient;
+import org.redisson.jcache.JCachingProvider;
+import org.redisson.jcache.configuration.RedissonConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.configuration.MutableConfiguration;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.EternalExpiryPolicy;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JCache manager behind the Hibernate second-level and query caches. Regions are created here, with expiry, instead
+ * of by Hibernate; the Redis provider reuses the application's Redisson client.
+ */
+@Configuration
+@Slf4j
+@RequiredArgsConstructor
+public class HibernateCacheConfig {
+    private final ApplicationProperties applicationProperties;
+    private final RedissonClient redissonClient;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        var secondLevel = applicationProperties.getCache().getSecondLevel();
+        var cachingProviderClass = switch (secondLevel.getProvider()) {
+            case REDIS -> JCachingProvider.class.getName();
+            case LOCAL -> CaffeineCachingProvider.class.getName();
+        };
+        log.info("Hibernate second-level cache provider: {}", secondLevel.getProvider());
+
+        var cacheManager = Caching.getCachingProvider(cachingProviderClass).getCacheManager();
+        cacheManager.createCache(CacheRegions.PROVIDER, regionConfiguration(secondLevel.getTimeToLive()));
+        cacheManager.createCache(CacheRegions.QUERY_RESULTS, regionConfiguration(secondLevel.getTimeToLive()));
+        // must outlive every cached query result, otherwise stale results could be taken as current
+        cacheManager.createCache(CacheRegions.UPDATE_TIMESTAMPS, regionConfiguration(null));
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private javax.cache.configuration.Configuration<Object, Object> regionConfiguration(Duration timeToLive) {
+        var configuration = new MutableConfiguration<>()
+                .setExpiryPolicyFactory(timeToLive == null ?
+                        EternalExpiryPolicy.factoryOf() :
+                        CreatedExpiryPolicy.factoryOf(new javax.cache.expiry.Duration(TimeUnit.MILLISECONDS, timeToLive.toMillis())));
+
+        var secondLevel = applicationProperties.getCache().getSecondLevel();
+        return switch (secondLevel.getProvider()) {
+            case REDIS -> RedissonConfiguration.fromInstance(redissonClient, configuration);
+            case LOCAL -> {
+                var caffeineConfiguration = new CaffeineConfiguration<>(configuration);
+                if (timeToLive != null) {
+                    caffeineConfiguration.setMaximumSize(OptionalLong.of(secondLevel.getMaximumSize()));
+                }
+                yield caffeineConfiguration;
+            }
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package insurance.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import insurance.config.json.ObservedJsonHttpMessageConverter;
+import insurance.config.json.QuoteJsonFragmentCache;
+import insurance.config.json.QuoteResponseDtoSerializer;
+import insurance.service.dto.QuoteResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Binary converters for service-to-service callers. They are built from the same builder as the JSON mapper,
+ * so spring.jackson settings apply to every format; JSON stays the default when no Accept header is sent.
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Replaces Spring Boot's JSON converter, keeping its mapper, so serialization shows up in traces.
+     */
+    @Bean
+    public ObservedJsonHttpMessageConverter observedJsonHttpMessageConverter(ObjectMapper objectMapper, ObservationRegistry observationRegistry) {
+        return new ObservedJsonHttpMessageConverter(objectMapper, observationRegistry);
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    /**
+     * Picked up by the shared builder, so every format uses the serializer; only compact JSON uses the cached bytes.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "application.json-fragment-cache", name = "enabled", havingValue = "true")
+    public Module quoteJsonFragmentModule(ApplicationProperties applicationProperties, MeterRegistry meterRegistry) {
+        var fragmentCache = new QuoteJsonFragmentCache(applicationProperties.getJsonFragmentCache().getMaximumSize(), meterRegistry);
+        return new SimpleModule("quote-json-fragments")
+                .addSerializer(QuoteResponseDto.class, new QuoteResponseDtoSerializer(fragmentCache));
+    }
+}
@@ -0,0 +1,31 @@
+package insurance.config;
+
+import liquibase.integration.spring.SpringLiquibase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * One-shot schema migration: with the {@code migrate} profile the application applies the Liquibase changelog and
+ * exits, so regular instances can start with {@code LIQUIBASE_ENABLED=false}.
+ */
+@Component
+@Profile("migrate")
+@Slf4j
+@RequiredArgsConstructor
+public class MigrationRunner implements ApplicationRunner {
+    private final SpringLiquibase springLiquibase;
+    private final ApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // the changelog has been applied while springLiquibase was created
+        log.info("Liquibase changelog {} applied, exiting", springLiquibase.getChangeLog());
+        System.exit(SpringApplication.exit(applicationContext, () -> 0));
+    }
+}
@@ -0,0 +1,22 @@
+package insurance.config;
+
+import io.opentelemetry.exporter.logging.otlp.OtlpJsonLoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Spring Boot exports sampled spans to every {@link SpanExporter} bean: to an OTLP collector when
+ * {@code management.otlp.tracing.endpoint} is set, and with {@code application.tracing.file-export} as OTLP JSON lines
+ * that logback-spring.xml routes to {@code application.tracing.file}.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "application.tracing", name = "file-export", havingValue = "true")
+    public SpanExporter fileSpanExporter() {
+        return OtlpJsonLoggingSpanExporter.create();
+    }
+}
@@ -0,0 +1,28 @@
+package insurance.config;
+
+import insurance.web.rest.consts.Url;
+import insurance.web.rest.limit.ClientRateLimitInterceptor;
+import insurance.web.rest.limit.ConcurrencyLimitInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+    private final ObjectProvider<ClientRateLimitInterceptor> clientRateLimitInterceptor;
+    private final ObjectProvider<ConcurrencyLimitInterceptor> concurrencyLimitInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // rate limiting first, so a throttled client does not take a concurrency slot
+        clientRateLimitInterceptor.ifAvailable(interceptor -> registry.addInterceptor(interceptor)
+                .addPathPatterns(Url.POST_QUOTE_AGGREGATION));
+        // long-lived streams would hold a slot for their whole lifetime
+        concurrencyLimitInterceptor.ifAvailable(interceptor -> registry.addInterceptor(interceptor)
+                .addPathPatterns("/api/**")
+                .excludePathPatterns(Url.GET_QUOTE_BEST_PRICE_STREAM));
+    }
+}
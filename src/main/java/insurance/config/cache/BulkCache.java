@@ -0,0 +1,18 @@
+package insurance.config.cache;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Multi-key access to a cache in one round trip.
+ */
+public interface BulkCache {
+    /**
+     * @return cached values by key; keys without a value are absent
+     */
+    Map<Object, Object> getAll(Collection<?> keys);
+
+    void putAll(Map<?, ?> values);
+
+    void evictAll(Collection<?> keys);
+}
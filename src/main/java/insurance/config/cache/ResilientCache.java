@@ -0,0 +1,339 @@
+package insurance.config.cache;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RMap;
+import org.redisson.api.RMapCache;
+import org.redisson.spring.cache.CacheConfig;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Redis-backed cache that degrades instead of failing or blocking: every call goes through a circuit breaker shared
+ * by all caches, and when Redis fails or the breaker is open, reads miss (the caller loads from the database), writes
+ * are dropped and evictions are queued. Queued evictions are replayed before the cache serves reads again.
+ */
+@Slf4j
+public class ResilientCache implements Cache, BulkCache {
+    private final Cache delegate;
+    private final CacheConfig cacheConfig;
+    private final CircuitBreaker circuitBreaker;
+    private final ResilientCacheManager.RedisCallCounters counters;
+    private final int maxPendingEvictions;
+    private final ObservationRegistry observationRegistry;
+
+    private final Set<Object> pendingEvictions = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean pendingClear = new AtomicBoolean();
+    private final AtomicBoolean replaying = new AtomicBoolean();
+
+    ResilientCache(Cache delegate, CacheConfig cacheConfig, CircuitBreaker circuitBreaker, ResilientCacheManager.RedisCallCounters counters,
+                   int maxPendingEvictions, ObservationRegistry observationRegistry) {
+        this.delegate = delegate;
+        this.cacheConfig = cacheConfig;
+        this.circuitBreaker = circuitBreaker;
+        this.counters = counters;
+        this.maxPendingEvictions = maxPendingEvictions;
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        if (!replayPendingEvictions()) {
+            return null;
+        }
+
+        return call("get", () -> delegate.get(key), () -> null);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        if (!replayPendingEvictions()) {
+            return null;
+        }
+
+        return call("get", () -> delegate.get(key, type), () -> null);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        if (!replayPendingEvictions()) {
+            return load(key, valueLoader);
+        }
+
+        var wrapper = call("get", () -> delegate.get(key), () -> null);
+        if (wrapper != null) {
+            @SuppressWarnings("unchecked")
+            var value = (T) wrapper.get();
+            return value;
+        }
+
+        var value = load(key, valueLoader);
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (!replayPendingEvictions()) {
+            return;
+        }
+
+        call("put", () -> {
+            delegate.put(key, value);
+            return null;
+        }, () -> null);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        if (!replayPendingEvictions()) {
+            return null;
+        }
+
+        return call("putIfAbsent", () -> delegate.putIfAbsent(key, value), () -> null);
+    }
+
+    @Override
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        if (!replayPendingEvictions()) {
+            return Map.of();
+        }
+
+        return call("getAll", () -> delegateGetAll(keys), Map::of);
+    }
+
+    @Override
+    public void putAll(Map<?, ?> values) {
+        if (!replayPendingEvictions()) {
+            return;
+        }
+
+        call("putAll", () -> {
+            delegatePutAll(values);
+            return null;
+        }, () -> null);
+    }
+
+    @Override
+    public void evictAll(Collection<?> keys) {
+        call("evictAll", () -> {
+            delegateEvictAll(keys);
+            return null;
+        }, () -> {
+            keys.forEach(this::queueEviction);
+            return null;
+        });
+    }
+
+    @Override
+    public void evict(Object key) {
+        call("evict", () -> {
+            delegate.evict(key);
+            return null;
+        }, () -> {
+            queueEviction(key);
+            return null;
+        });
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return call("evict", () -> delegate.evictIfPresent(key), () -> {
+            queueEviction(key);
+            return false;
+        });
+    }
+
+    @Override
+    public void clear() {
+        call("clear", () -> {
+            delegate.clear();
+            return null;
+        }, () -> {
+            queueClear();
+            return null;
+        });
+    }
+
+    @Override
+    public boolean invalidate() {
+        return call("clear", delegate::invalidate, () -> {
+            queueClear();
+            return false;
+        });
+    }
+
+    public boolean hasPendingEvictions() {
+        return pendingClear.get() || !pendingEvictions.isEmpty();
+    }
+
+    /**
+     * @return true if nothing is pending anymore, false if evictions are still pending or another thread is
+     * replaying them; the cache must not serve or store entries until then
+     */
+    public boolean replayPendingEvictions() {
+        if (!hasPendingEvictions()) {
+            return true;
+        }
+        if (!replaying.compareAndSet(false, true)) {
+            return false;
+        }
+
+        try {
+            if (pendingClear.getAndSet(false)) {
+                pendingEvictions.clear();
+                if (!call("clear", () -> {
+                    delegate.clear();
+                    return true;
+                }, () -> false)) {
+                    pendingClear.set(true);
+                    return false;
+                }
+            }
+
+            for (var key : pendingEvictions) {
+                if (!call("evict", () -> {
+                    delegate.evict(key);
+                    return true;
+                }, () -> false)) {
+                    return false;
+                }
+                pendingEvictions.remove(key);
+            }
+
+            log.info("Replayed pending evictions of cache {}", getName());
+            return !hasPendingEvictions();
+        } finally {
+            replaying.set(false);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Object, Object> delegateGetAll(Collection<?> keys) {
+        var values = new HashMap<Object, Object>();
+        if (delegate.getNativeCache() instanceof RMap<?, ?> map) {
+            ((RMap<Object, Object>) map).getAll(new HashSet<>(keys)).forEach((key, value) -> {
+                if (!(value instanceof NullValue)) {
+                    values.put(key, value);
+                }
+            });
+            return values;
+        }
+
+        for (var key : keys) {
+            var wrapper = delegate.get(key);
+            if (wrapper != null && wrapper.get() != null) {
+                values.put(key, wrapper.get());
+            }
+        }
+        return values;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void delegatePutAll(Map<?, ?> values) {
+        if (cacheConfig.getMaxIdleTime() > 0) {
+            // a bulk write cannot set max idle; single puts do
+            values.forEach(delegate::put);
+            return;
+        }
+        if (cacheConfig.getTTL() > 0 && delegate.getNativeCache() instanceof RMapCache<?, ?> mapCache) {
+            ((RMapCache<Object, Object>) mapCache).putAll(values, cacheConfig.getTTL(), TimeUnit.MILLISECONDS);
+            return;
+        }
+        if (delegate.getNativeCache() instanceof RMap<?, ?> map) {
+            ((RMap<Object, Object>) map).putAll(values);
+            return;
+        }
+
+        values.forEach(delegate::put);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void delegateEvictAll(Collection<?> keys) {
+        if (delegate.getNativeCache() instanceof RMap<?, ?> map) {
+            ((RMap<Object, Object>) map).fastRemove(keys.toArray());
+            return;
+        }
+
+        keys.forEach(delegate::evict);
+    }
+
+    private void queueEviction(Object key) {
+        if (pendingClear.get()) {
+            return;
+        }
+
+        if (pendingEvictions.size() >= maxPendingEvictions) {
+            queueClear();
+            return;
+        }
+
+        pendingEvictions.add(key);
+    }
+
+    private void queueClear() {
+        pendingClear.set(true);
+        pendingEvictions.clear();
+    }
+
+    /**
+     * Every Redis call is also a {@code cache.redis} observation, so it appears as a span in the request's trace.
+     */
+    private <T> T call(String operationName, Supplier<T> operation, Supplier<T> fallback) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            counters.rejected().increment();
+            return fallback.get();
+        }
+
+        var observation = Observation.createNotStarted("cache.redis", observationRegistry)
+                .lowCardinalityKeyValue("cache", getName())
+                .lowCardinalityKeyValue("operation", operationName)
+                .start();
+        var startedAt = System.nanoTime();
+        try (var scope = observation.openScope()) {
+            var result = operation.get();
+            circuitBreaker.onSuccess(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            counters.success().increment();
+            return result;
+        } catch (RuntimeException e) {
+            circuitBreaker.onError(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS, e);
+            counters.failure().increment();
+            observation.error(e);
+            log.debug("Redis call on cache {} failed", getName(), e);
+            return fallback.get();
+        } finally {
+            observation.stop();
+        }
+    }
+
+    private static <T> T load(Object key, Callable<T> valueLoader) {
+        try {
+            return valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+}
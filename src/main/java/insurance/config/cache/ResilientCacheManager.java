@@ -0,0 +1,101 @@
+package insurance.config.cache;
+
+import insurance.config.ApplicationProperties;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.spring.cache.CacheConfig;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps every cache of the Redis cache manager in a {@link ResilientCache}, all behind one circuit breaker since
+ * they share one Redis.
+ */
+@Slf4j
+public class ResilientCacheManager implements CacheManager {
+    private final CacheManager delegate;
+    private final Map<String, CacheConfig> cacheConfigs;
+    private final CircuitBreaker circuitBreaker;
+    private final RedisCallCounters counters;
+    private final int maxPendingEvictions;
+    private final ObservationRegistry observationRegistry;
+    private final Map<String, ResilientCache> caches = new ConcurrentHashMap<>();
+
+    public ResilientCacheManager(CacheManager delegate, Map<String, CacheConfig> cacheConfigs, ApplicationProperties.Redis properties,
+                                 MeterRegistry meterRegistry, ObservationRegistry observationRegistry) {
+        this.delegate = delegate;
+        this.cacheConfigs = cacheConfigs;
+        this.observationRegistry = observationRegistry;
+        this.maxPendingEvictions = properties.getMaxPendingEvictions();
+        this.circuitBreaker = CircuitBreaker.of("redis-cache", CircuitBreakerConfig.custom()
+                .failureRateThreshold(properties.getFailureRateThreshold())
+                .slidingWindowSize(properties.getSlidingWindowSize())
+                .minimumNumberOfCalls(properties.getSlidingWindowSize())
+                .waitDurationInOpenState(properties.getWaitDurationInOpenState())
+                .build());
+        this.circuitBreaker.getEventPublisher()
+                .onStateTransition(event -> log.warn("Redis cache circuit breaker: {}", event.getStateTransition()));
+
+        this.counters = new RedisCallCounters(
+                redisCallCounter(meterRegistry, "success"),
+                redisCallCounter(meterRegistry, "failure"),
+                redisCallCounter(meterRegistry, "rejected"));
+        Gauge.builder("cache.redis.circuit.open", circuitBreaker, c -> c.getState() == CircuitBreaker.State.OPEN ? 1 : 0)
+                .description("1 while Redis calls are bypassed")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        var cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        var delegateCache = delegate.getCache(name);
+        if (delegateCache == null) {
+            return null;
+        }
+
+        var cacheConfig = cacheConfigs.getOrDefault(name, new CacheConfig());
+        return caches.computeIfAbsent(name, n -> new ResilientCache(delegateCache, cacheConfig, circuitBreaker, counters, maxPendingEvictions,
+                observationRegistry));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    /**
+     * Evictions must reach Redis even if this node does not touch the cache again, since other nodes keep reading it.
+     */
+    @Scheduled(fixedDelayString = "${application.cache.redis.wait-duration-in-open-state}")
+    public void replayPendingEvictions() {
+        for (var cache : caches.values()) {
+            if (cache.hasPendingEvictions()) {
+                cache.replayPendingEvictions();
+            }
+        }
+    }
+
+    private static Counter redisCallCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("cache.redis.calls")
+                .description("Cache calls to Redis by outcome; rejected calls were bypassed by the circuit breaker")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    record RedisCallCounters(Counter success, Counter failure, Counter rejected) {
+    }
+}
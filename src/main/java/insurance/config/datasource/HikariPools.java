@@ -0,0 +1,21 @@
+package insurance.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+
+/**
+ * Pools built by hand skip Spring Boot's binding of {@code spring.datasource.hikari.*}, so it is applied here to
+ * every pool; settings of a single pool (name, size) are set afterwards and win.
+ */
+final class HikariPools {
+
+    private HikariPools() {
+    }
+
+    static HikariDataSource withHikariSettings(HikariDataSource dataSource, Environment environment) {
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        return dataSource;
+    }
+}
@@ -0,0 +1,32 @@
+package insurance.config.datasource;
+
+/**
+ * Keeps the current thread's read-only transactions on the primary. Reads whose result is cached take it: a lagging
+ * replica would put back the state from before a write whose eviction already ran, and the cache would serve it for
+ * its whole time-to-live. Like {@link ShardContext}, it has to be entered before the transaction's first statement.
+ */
+public final class PrimaryReads {
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    /**
+     * @return a scope that restores the previous routing when closed
+     */
+    public static Scope use() {
+        var previous = ACTIVE.get();
+        ACTIVE.set(Boolean.TRUE);
+        return () -> ACTIVE.set(previous);
+    }
+
+    static boolean active() {
+        return Boolean.TRUE.equals(ACTIVE.get());
+    }
+
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,142 @@
+package insurance.config.datasource;
+
+import insurance.config.ApplicationProperties;
+import insurance.domain.enumaration.CoverageType;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Where quotes live: a coverage type belongs to shard {@code ordinal % count}, and a quote id to shard
+ * {@code (id - 1) % count} (see {@link ShardRoutingDataSource#alignQuoteIds}). Without sharding there is one shard,
+ * and {@link #scatter} and {@link #writeEach} simply run in the caller's transaction.
+ */
+@Component
+public class QuoteShards {
+    private final int count;
+    private final ObjectProvider<PlatformTransactionManager> transactionManager;
+    private final ExecutorService executor = ContextExecutorService.wrap(Executors.newVirtualThreadPerTaskExecutor(),
+            ContextSnapshotFactory.builder().build()::captureAll);
+
+    public QuoteShards(ApplicationProperties applicationProperties, ObjectProvider<PlatformTransactionManager> transactionManager) {
+        var sharding = applicationProperties.getSharding();
+        this.count = sharding.isEnabled() ? 1 + sharding.getShards().size() : 1;
+        this.transactionManager = transactionManager;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public List<Integer> all() {
+        return IntStream.range(0, count).boxed().toList();
+    }
+
+    public int of(CoverageType coverageType) {
+        return coverageType.ordinal() % count;
+    }
+
+    public int ofQuote(long quoteId) {
+        return (int) Math.floorMod(quoteId - 1, (long) count);
+    }
+
+    /**
+     * Has to be entered before the transaction's first statement.
+     */
+    public ShardContext.Scope route(int shard) {
+        return ShardContext.use(shard);
+    }
+
+    /**
+     * Runs {@code read} for every given shard in parallel, each in a read-only transaction of its own.
+     *
+     * @return the results in the order of {@code shards}
+     */
+    public <T> List<T> scatter(Collection<Integer> shards, IntFunction<T> read) {
+        if (count == 1) {
+            return shards.stream().map(read::apply).toList();
+        }
+
+        var transactionTemplate = newTransaction();
+        transactionTemplate.setReadOnly(true);
+
+        var futures = new ArrayList<Future<T>>(shards.size());
+        for (var shard : shards) {
+            futures.add(executor.submit(() -> {
+                try (var _ = route(shard)) {
+                    return transactionTemplate.execute(_ -> read.apply(shard));
+                }
+            }));
+        }
+
+        var results = new ArrayList<T>(futures.size());
+        for (var future : futures) {
+            results.add(join(future));
+        }
+        return results;
+    }
+
+    /**
+     * Runs {@code write} on every shard in turn, shard 0 first, each in a transaction of its own; a failure stops
+     * before the next shard, with the earlier ones committed. Writes should be idempotent, so repeating the request
+     * completes them.
+     *
+     * @return whether {@code write} returned true for any shard
+     */
+    public boolean writeEach(IntPredicate write) {
+        if (count == 1) {
+            return write.test(0);
+        }
+
+        var transactionTemplate = newTransaction();
+        var written = false;
+        for (var shard = 0; shard < count; shard++) {
+            var current = shard;
+            try (var _ = route(shard)) {
+                written |= Boolean.TRUE.equals(transactionTemplate.execute(_ -> write.test(current)));
+            }
+        }
+        return written;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private TransactionTemplate newTransaction() {
+        var transactionTemplate = new TransactionTemplate(transactionManager.getObject());
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return transactionTemplate;
+    }
+
+    private static <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading shards", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
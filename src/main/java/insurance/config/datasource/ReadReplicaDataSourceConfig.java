@@ -0,0 +1,60 @@
+package insurance.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import insurance.config.ApplicationProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+
+@Configuration
+@ConditionalOnProperty(prefix = "application.read-replica", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReadReplicaDataSourceConfig {
+    private final ApplicationProperties applicationProperties;
+    private final Environment environment;
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties dataSourceProperties) {
+        var readReplica = applicationProperties.getReadReplica();
+
+        var primary = HikariPools.withHikariSettings(
+                dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build(), environment);
+        primary.setPoolName("primary");
+
+        var replicas = new LinkedHashMap<String, HikariDataSource>();
+        for (var i = 0; i < readReplica.getReplicas().size(); i++) {
+            var replica = readReplica.getReplicas().get(i);
+            var name = "replica-" + i;
+
+            var dataSource = HikariPools.withHikariSettings(DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(replica.getUrl())
+                    .username(replica.getUsername())
+                    .password(replica.getPassword())
+                    .build(), environment);
+            dataSource.setPoolName(name);
+            dataSource.setReadOnly(true);
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            replicas.put(name, dataSource);
+        }
+
+        var routingDataSource = new ReplicaRoutingDataSource(primary, replicas, readReplica.getMaxLag());
+        routingDataSource.refreshReplicaHealth();
+        return routingDataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
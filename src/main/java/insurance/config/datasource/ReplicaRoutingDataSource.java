@@ -0,0 +1,105 @@
+package insurance.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a healthy replica (round robin) and everything else, including reads within
+ * {@link PrimaryReads}, to the primary.
+ * Has to be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, otherwise the
+ * connection is fetched before the transaction is marked read-only.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    private static final String PRIMARY = "primary";
+    private static final int LAG_QUERY_TIMEOUT_SECONDS = 2;
+    private static final String REPLICATION_LAG_QUERY = """
+            select case
+                       when not pg_is_in_recovery() then 0
+                       when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0
+                       else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0)
+                   end
+            """;
+
+    private final HikariDataSource primary;
+    private final Map<String, HikariDataSource> replicas;
+    private final Map<String, JdbcTemplate> lagProbes = new LinkedHashMap<>();
+    private final Duration maxLag;
+    private final AtomicInteger roundRobin = new AtomicInteger();
+    private volatile List<String> healthyReplicas = List.of();
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, Map<String, HikariDataSource> replicas, Duration maxLag) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.maxLag = maxLag;
+
+        replicas.forEach((name, dataSource) -> {
+            var jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.setQueryTimeout(LAG_QUERY_TIMEOUT_SECONDS);
+            lagProbes.put(name, jdbcTemplate);
+        });
+
+        var targetDataSources = new HashMap<Object, Object>(replicas);
+        targetDataSources.put(PRIMARY, primary);
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || PrimaryReads.active()) {
+            return PRIMARY;
+        }
+
+        var healthy = healthyReplicas;
+        if (healthy.isEmpty()) {
+            return PRIMARY;
+        }
+
+        return healthy.get(Math.floorMod(roundRobin.getAndIncrement(), healthy.size()));
+    }
+
+    /**
+     * Re-evaluates which replicas may serve reads. A replica that lags more than the configured maximum or cannot be
+     * reached is skipped until a later check sees it caught up again.
+     */
+    @Scheduled(fixedDelayString = "${application.read-replica.lag-check-interval}")
+    public void refreshReplicaHealth() {
+        var healthy = new ArrayList<String>();
+        var maxLagSeconds = maxLag.toMillis() / 1000.0;
+
+        lagProbes.forEach((name, jdbcTemplate) -> {
+            try {
+                var lagSeconds = jdbcTemplate.queryForObject(REPLICATION_LAG_QUERY, Double.class);
+                if (lagSeconds != null && lagSeconds <= maxLagSeconds) {
+                    healthy.add(name);
+                } else {
+                    log.warn("Replica {} is {} seconds behind primary, routing its reads to primary", name, lagSeconds);
+                }
+            } catch (DataAccessException e) {
+                log.warn("Replica {} is unreachable, routing its reads to primary", name, e);
+            }
+        });
+
+        healthyReplicas = List.copyOf(healthy);
+    }
+
+    @Override
+    public void close() {
+        replicas.values().forEach(HikariDataSource::close);
+        primary.close();
+    }
+}
@@ -0,0 +1,31 @@
+package insurance.config.datasource;
+
+/**
+ * Shard the current thread's next connection is taken from. A transaction stays on the shard its first statement
+ * ran on, so the shard has to be chosen before that; statements outside any scope go to shard 0.
+ */
+public final class ShardContext {
+    private static final ThreadLocal<Integer> SHARD = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    /**
+     * @return a scope that restores the previous shard when closed
+     */
+    public static Scope use(int shard) {
+        var previous = SHARD.get();
+        SHARD.set(shard);
+        return () -> SHARD.set(previous);
+    }
+
+    static Integer current() {
+        return SHARD.get();
+    }
+
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
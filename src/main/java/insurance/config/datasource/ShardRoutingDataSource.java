@@ -0,0 +1,93 @@
+package insurance.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Sends every connection to the shard of the current {@link ShardContext}, shard 0 when none is set.
+ * Has to be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, otherwise the
+ * connection is fetched when the transaction begins, before the service has chosen the shard.
+ */
+@Slf4j
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    private static final String QUOTE_ID_SEQUENCE_QUERY = "select pg_get_serial_sequence('quote', 'id')";
+    private static final String QUOTE_ID_INCREMENT_QUERY = """
+            select increment_by from pg_sequences where schemaname || '.' || sequencename = ?
+            """;
+    private static final String MAX_QUOTE_ID_QUERY = """
+            select greatest((select max(id) from quote), (select max(id) from quote_archive), 0)
+            """;
+
+    private final List<HikariDataSource> shards;
+
+    public ShardRoutingDataSource(List<HikariDataSource> shards) {
+        this.shards = shards;
+
+        var targetDataSources = new HashMap<Object, Object>();
+        for (var shard = 0; shard < shards.size(); shard++) {
+            targetDataSources.put(shard, shards.get(shard));
+        }
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(shards.getFirst());
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        var shard = ShardContext.current();
+        return shard != null ? shard : 0;
+    }
+
+    /**
+     * Quote ids carry their shard: shard {@code i} of {@code n} only generates ids with {@code (id - 1) % n == i}, so
+     * a quote is found by id without asking every shard. Sets the id sequence of each shard up once, which requires
+     * its quote tables to be empty, and fails if a shard already holds ids of another one, e.g. after the shard list
+     * was reordered or resized.
+     */
+    public void alignQuoteIds() {
+        var count = shards.size();
+        // every shard is checked before any sequence is changed
+        var unaligned = new ArrayList<Integer>();
+        for (var shard = 0; shard < count; shard++) {
+            var jdbcTemplate = new JdbcTemplate(shards.get(shard));
+            var increment = jdbcTemplate.queryForObject(QUOTE_ID_INCREMENT_QUERY, Long.class, quoteIdSequence(jdbcTemplate));
+            var maxId = jdbcTemplate.queryForObject(MAX_QUOTE_ID_QUERY, Long.class);
+
+            if (increment != null && increment == count) {
+                if (maxId != null && maxId > 0 && Math.floorMod(maxId - 1, count) != shard) {
+                    throw new IllegalStateException("Shard " + shard + " holds quote id " + maxId + " of shard "
+                            + Math.floorMod(maxId - 1, count) + "; the shard list must not be reordered or resized");
+                }
+            } else if (maxId != null && maxId > 0) {
+                // existing ids of other residues would be looked up on the wrong shard
+                throw new IllegalStateException("Shard " + shard + " already holds quotes up to id " + maxId
+                        + "; sharding has to be enabled on empty quote and quote_archive tables");
+            } else {
+                unaligned.add(shard);
+            }
+        }
+
+        for (var shard : unaligned) {
+            var jdbcTemplate = new JdbcTemplate(shards.get(shard));
+            var nextId = shard + 1;
+            jdbcTemplate.execute("alter table quote alter column id set increment by " + count);
+            jdbcTemplate.queryForObject("select setval(cast(? as regclass), ?, false)", Long.class,
+                    quoteIdSequence(jdbcTemplate), nextId);
+            log.info("Quote ids of shard {} start at {} in steps of {}", shard, nextId, count);
+        }
+    }
+
+    private static String quoteIdSequence(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject(QUOTE_ID_SEQUENCE_QUERY, String.class);
+    }
+
+    @Override
+    public void close() {
+        shards.forEach(HikariDataSource::close);
+    }
+}
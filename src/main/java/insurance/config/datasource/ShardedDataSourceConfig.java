@@ -0,0 +1,66 @@
+package insurance.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import insurance.config.ApplicationProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+
+/**
+ * Not combinable with read replicas; each shard can still be a primary with its own standbys for failover.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.sharding", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ShardedDataSourceConfig {
+    private final ApplicationProperties applicationProperties;
+    private final Environment environment;
+
+    @Bean
+    public ShardRoutingDataSource shardRoutingDataSource(DataSourceProperties dataSourceProperties) {
+        var shards = new ArrayList<HikariDataSource>();
+
+        var first = HikariPools.withHikariSettings(
+                dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build(), environment);
+        first.setPoolName("shard-0");
+        shards.add(first);
+
+        for (var shard : applicationProperties.getSharding().getShards()) {
+            var dataSource = HikariPools.withHikariSettings(DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(shard.getUrl())
+                    .username(shard.getUsername())
+                    .password(shard.getPassword())
+                    .build(), environment);
+            dataSource.setPoolName("shard-" + shards.size());
+            dataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+            shards.add(dataSource);
+        }
+
+        return new ShardRoutingDataSource(shards);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+
+    /**
+     * Runs once every singleton, including Liquibase on shard 0, is initialized and before requests are served.
+     */
+    @Bean
+    public SmartInitializingSingleton quoteIdAlignment(ShardRoutingDataSource shardRoutingDataSource) {
+        return shardRoutingDataSource::alignQuoteIds;
+    }
+}
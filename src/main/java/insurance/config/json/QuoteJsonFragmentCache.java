@@ -0,0 +1,52 @@
+package insurance.config.json;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.io.IOException;
+
+/**
+ * JSON of quotes, encoded once per quote version and kept as UTF-8 bytes. Only the latest version seen of a quote is
+ * kept, since every write to a quote row increments its version.
+ */
+public class QuoteJsonFragmentCache {
+    private final Cache<Long, Fragment> fragments;
+
+    public QuoteJsonFragmentCache(long maximumSize, MeterRegistry meterRegistry) {
+        fragments = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, fragments, "quote.json.fragments");
+    }
+
+    /**
+     * @param encoder called on a miss; its JSON is stored unless a newer version of the quote is cached already
+     */
+    public SerializableString get(long id, int version, Encoder encoder) throws IOException {
+        var fragment = fragments.getIfPresent(id);
+        if (fragment != null && fragment.version == version) {
+            return fragment.json;
+        }
+
+        var json = new SerializedString(encoder.encode());
+        // encode to UTF-8 now, so every later hit only copies bytes
+        json.asUnquotedUTF8();
+
+        fragments.asMap().merge(id, new Fragment(version, json),
+                (current, candidate) -> current.version >= candidate.version ? current : candidate);
+        return json;
+    }
+
+    @FunctionalInterface
+    public interface Encoder {
+        String encode() throws IOException;
+    }
+
+    private record Fragment(int version, SerializedString json) {
+    }
+}
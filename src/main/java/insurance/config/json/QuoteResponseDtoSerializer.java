@@ -0,0 +1,76 @@
+package insurance.config.json;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import insurance.service.dto.QuoteResponseDto;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+/**
+ * Writes quotes mapped from an entity as their cached JSON, so a list response costs a byte copy per quote. Quotes
+ * without id and version, pretty-printed JSON and the binary formats are written field by field, with the same
+ * output. Null fields follow the mapper's default property inclusion, as the bean serializer would; fragments are
+ * cached for one inclusion, so all mappers sharing the cache must be configured alike.
+ */
+public class QuoteResponseDtoSerializer extends StdSerializer<QuoteResponseDto> {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final transient QuoteJsonFragmentCache fragmentCache;
+
+    public QuoteResponseDtoSerializer(QuoteJsonFragmentCache fragmentCache) {
+        super(QuoteResponseDto.class);
+        this.fragmentCache = fragmentCache;
+    }
+
+    @Override
+    public void serialize(QuoteResponseDto value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        var writeNulls = writeNulls(provider);
+        if (value.getId() == null || value.getVersion() == null
+                || !(gen instanceof JsonGeneratorImpl) || gen.getPrettyPrinter() != null) {
+            writeFields(value, gen, writeNulls);
+            return;
+        }
+
+        gen.writeRawValue(fragmentCache.get(value.getId(), value.getVersion(), () -> encode(value, gen, writeNulls)));
+    }
+
+    private static boolean writeNulls(SerializerProvider provider) {
+        var inclusion = provider.getConfig().getDefaultPropertyInclusion(QuoteResponseDto.class).getValueInclusion();
+        return inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS;
+    }
+
+    private static String encode(QuoteResponseDto value, JsonGenerator gen, boolean writeNulls) throws IOException {
+        var writer = new StringWriter(64);
+        try (var fragmentGen = JSON_FACTORY.createGenerator(writer)) {
+            // same escaping and number format as the response
+            fragmentGen.overrideStdFeatures(gen.getFeatureMask(), -1);
+            writeFields(value, fragmentGen, writeNulls);
+        }
+        return writer.toString();
+    }
+
+    private static void writeFields(QuoteResponseDto value, JsonGenerator gen, boolean writeNulls) throws IOException {
+        gen.writeStartObject(value);
+        if (value.getCoverageType() != null) {
+            gen.writeStringField("coverageType", value.getCoverageType().name());
+        } else if (writeNulls) {
+            gen.writeNullField("coverageType");
+        }
+        if (value.getPrice() != null) {
+            gen.writeNumberField("price", value.getPrice());
+        } else if (writeNulls) {
+            gen.writeNullField("price");
+        }
+        if (value.getProviderName() != null) {
+            gen.writeStringField("providerName", value.getProviderName());
+        } else if (writeNulls) {
+            gen.writeNullField("providerName");
+        }
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,12 @@
+package insurance.domain;
+
+/**
+ * Hibernate second-level cache regions, created up front by {@link insurance.config.HibernateCacheConfig}.
+ */
+public final class CacheRegions {
+    private CacheRegions() {}
+
+    public static final String PROVIDER = "insurance.provider";
+    public static final String QUERY_RESULTS = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+}
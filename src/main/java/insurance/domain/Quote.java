@@ -3,6 +3,7 @@ package insurance.domain;
 
 import insurance.domain.enumaration.CoverageType;
 import jakarta.persistence.*;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -29,5 +30,18 @@ public class Quote extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "provider_id", nullable = false)
     private Provider provider;
+
+    /**
+     * Copy of {@link Provider#getName()}, kept in sync by {@link insurance.service.ProviderService}.
+     */
+    @Column(name = "provider_name", nullable = false)
+    private String providerName;
+
+    /**
+     * False once the provider is soft-deleted, kept in sync by {@link insurance.service.ProviderService}.
+     */
+    @Builder.Default
+    @Column(name = "provider_active", nullable = false)
+    private boolean providerActive = true;
 }
 
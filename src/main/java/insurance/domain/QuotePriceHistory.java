@@ -0,0 +1,41 @@
+package insurance.domain;
+
+import insurance.domain.enumaration.CoverageType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Append-only record of a quote's price, written with its rollups by
+ * {@link insurance.repository.QuotePriceHistoryRepository#record}.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Immutable
+@Table(name = "quote_price_history")
+public class QuotePriceHistory {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "quote_id", nullable = false)
+    private Long quoteId;
+
+    @Column(name = "provider_id", nullable = false)
+    private Long providerId;
+
+    @Column(name = "coverage_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private CoverageType coverageType;
+
+    @Column(name = "price", nullable = false)
+    private BigDecimal price;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+}
@@ -0,0 +1,16 @@
+package insurance.domain.enumaration;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.temporal.ChronoUnit;
+
+@Getter
+@AllArgsConstructor
+public enum PriceBucketGranularity {
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS),
+    ;
+
+    private final ChronoUnit unit;
+}
@@ -1,14 +1,39 @@
 package insurance.repository;
 
 import insurance.domain.Provider;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
+/**
+ * The cached lookup is for reads only. Writes read the row of the shard they run on with a locking query, which
+ * the second-level cache does not serve: its single region is shared by all shards, so after shard 0 committed it
+ * already holds the new state of a provider the other shards have not changed yet.
+ */
 @Repository
 public interface ProviderRepository extends JpaRepository<Provider, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Provider> findByIdAndDeletedAtIsNull(Long id);
 
-}
+    /**
+     * {@code select ... for update}: held until commit, so concurrent renames and deletes of a provider run one
+     * after the other.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Provider> findForUpdateById(Long id);
+
+    /**
+     * {@code select ... for share}: a quote created under it is committed before the provider can be deleted, so
+     * the delete deactivates it, and a provider deleted meanwhile is not found.
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    Optional<Provider> findForShareByIdAndDeletedAtIsNull(Long id);
 
+    boolean existsByName(String name);
+}
@@ -0,0 +1,62 @@
+package insurance.repository;
+
+import insurance.domain.QuotePriceHistory;
+import insurance.repository.projection.PriceBucket;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * quote_price_history is append-only; quote_price_rollup keeps min, max, sum and count of the recorded prices per
+ * coverage type and hour or day bucket, so history queries never scan the raw rows.
+ */
+@Repository
+public interface QuotePriceHistoryRepository extends JpaRepository<QuotePriceHistory, Long> {
+
+    /**
+     * Appends a price to the history and folds it into its hour and day rollups in one statement.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "quote_price_history"))
+    @Query(nativeQuery = true, value = """
+            with history as (
+                insert into quote_price_history (quote_id, provider_id, coverage_type, price, recorded_at)
+                values (:quoteId, :providerId, :coverageType, :price, :recordedAt)
+            )
+            insert into quote_price_rollup (coverage_type, granularity, bucket_start, min_price, max_price, price_sum, price_count)
+            select :coverageType, g.granularity, date_trunc(g.unit, cast(:recordedAt as timestamp)),
+                   cast(:price as numeric), cast(:price as numeric), cast(:price as numeric), 1
+            from (values ('HOUR', 'hour'), ('DAY', 'day')) as g (granularity, unit)
+            on conflict (coverage_type, granularity, bucket_start) do update
+            set min_price = least(quote_price_rollup.min_price, excluded.min_price),
+                max_price = greatest(quote_price_rollup.max_price, excluded.max_price),
+                price_sum = quote_price_rollup.price_sum + excluded.price_sum,
+                price_count = quote_price_rollup.price_count + excluded.price_count
+            """)
+    int record(long quoteId, long providerId, String coverageType, BigDecimal price, LocalDateTime recordedAt);
+
+    /**
+     * Rollups of a coverage type whose bucket starts in {@code [from, to)}, oldest first.
+     */
+    @Query(nativeQuery = true, value = """
+            select bucket_start as "bucketStart",
+                   min_price as "minPrice",
+                   max_price as "maxPrice",
+                   price_sum as "priceSum",
+                   price_count as "priceCount"
+            from quote_price_rollup
+            where coverage_type = :coverageType
+              and granularity = :granularity
+              and bucket_start >= :from and bucket_start < :to
+            order by bucket_start
+            """)
+    List<PriceBucket> findBuckets(String coverageType, String granularity, LocalDateTime from, LocalDateTime to);
+}
@@ -2,37 +2,201 @@ package insurance.repository;
 
 import insurance.domain.Quote;
 import insurance.domain.enumaration.CoverageType;
+import insurance.repository.projection.DeletedQuote;
+import insurance.repository.projection.QuoteUpdateResult;
+import insurance.repository.projection.UpdatedPrice;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * Quotes are not in the second-level cache: single reads are served from {@code QuoteCache} and the hot lookups are
+ * queries, which it would not serve. Native writes declare the quote table as their query space, so Hibernate does
+ * not invalidate the provider regions for them.
+ */
 @Repository
 public interface QuoteRepository extends JpaRepository<Quote, Long> {
 
     Optional<Quote> findByCoverageTypeAndProviderIdIsAndDeletedAtIsNull(CoverageType coverageType, long provider);
 
     Optional<Quote> findByIdAndDeletedAtIsNull(Long id);
-    @Modifying
-    @Query("""
-            update Quote set deletedAt = :deletedAt where id = :id
+
+    List<Quote> findAllByIdInAndDeletedAtIsNull(Collection<Long> ids);
+
+    /**
+     * Soft-deletes an active quote in one statement.
+     *
+     * @return the deleted quote, empty if there is no active quote with this id
+     */
+    @Query(nativeQuery = true, value = """
+            update quote set deleted_at = :deletedAt, version = version + 1
+            where id = :id and deleted_at is null
+            returning coverage_type as "coverageType", provider_id as "providerId", price as "price"
+            """)
+    Optional<DeletedQuote> softDeleteById(LocalDateTime deletedAt, long id);
+
+    /**
+     * Applies the non-null fields to an active quote in one statement, writing only if a value actually changes and
+     * the provider has no other active quote for the new coverage type. Quotes of a deleted provider are hidden from
+     * every read, so they are not found here either.
+     *
+     * @return empty if there is no active quote of an active provider with this id
+     */
+    @Query(nativeQuery = true, value = """
+            with current_quote as (
+                select id, provider_id, coverage_type, price
+                from quote
+                where id = :id and deleted_at is null and provider_active
+                for update
+            ),
+            target as (
+                select id,
+                       provider_id,
+                       coverage_type as old_coverage_type,
+                       coalesce(cast(:coverageType as varchar), coverage_type) as new_coverage_type,
+                       coalesce(cast(:price as numeric), price) as new_price,
+                       price <> coalesce(cast(:price as numeric), price) as price_changed
+                from current_quote
+            ),
+            duplicate as (
+                select exists (
+                    select 1 from quote other, target t
+                    where t.new_coverage_type <> t.old_coverage_type
+                      and other.provider_id = t.provider_id
+                      and other.coverage_type = t.new_coverage_type
+                      and other.deleted_at is null
+                      and other.id <> t.id
+                ) as found
+            ),
+            updated as (
+                update quote q
+                set coverage_type = t.new_coverage_type,
+                    price = t.new_price,
+                    version = q.version + 1,
+                    updated_at = :updatedAt
+                from target t, duplicate d
+                where q.id = t.id
+                  and (t.price_changed or t.new_coverage_type <> t.old_coverage_type)
+                  and not d.found
+                returning q.id
+            )
+            select t.old_coverage_type as "oldCoverageType",
+                   t.new_coverage_type as "newCoverageType",
+                   t.provider_id as "providerId",
+                   t.new_price as "price",
+                   d.found as "duplicate",
+                   exists (select 1 from updated) as "updated"
+            from target t, duplicate d
+            """)
+    Optional<QuoteUpdateResult> updateIfChanged(long id, String coverageType, BigDecimal price, LocalDateTime updatedAt);
+
+    /**
+     * Sets the price of many active quotes in one statement, {@code prices[i]} for {@code ids[i]}; quotes whose price
+     * is already the given one, or whose provider is deleted, are not written.
+     *
+     * @return the quotes actually written
+     */
+    @Query(nativeQuery = true, value = """
+            update quote q
+            set price = v.price,
+                version = q.version + 1,
+                updated_at = :updatedAt
+            from unnest(cast(:ids as bigint[]), cast(:prices as numeric[])) as v(id, price)
+            where q.id = v.id
+              and q.deleted_at is null
+              and q.provider_active
+              and q.price <> v.price
+            returning q.id as "quoteId", q.provider_id as "providerId", q.coverage_type as "coverageType", q.price as "price"
             """)
-    void deleteById(LocalDateTime deletedAt, long id);
+    List<UpdatedPrice> updatePrices(Long[] ids, BigDecimal[] prices, LocalDateTime updatedAt);
 
+    /**
+     * Single-table read: provider name and state are carried on the quote row.
+     */
     @Query("""
-                     select distinct q from Quote q
-                     join fetch q.provider p
+                     select q from Quote q
                      where q.deletedAt is null and
-                     p.deletedAt is null and
+                     q.providerActive = true and
                      (:#{#coverageTypes.size()} = 0 or q.coverageType in :coverageTypes)
                      order by q.createdAt desc
-            
             """)
     List<Quote> findAllByCoverageType(List<CoverageType> coverageTypes);
-}
 
+    /**
+     * Served by the partial index IX_quote_coverage_type_price_id_active, whose trailing id matches the tie-break;
+     * order and limit come from {@code pageable}.
+     */
+    @Query("""
+                     select q from Quote q
+                     where q.coverageType = :coverageType and
+                     q.deletedAt is null and
+                     q.providerActive = true and
+                     q.price between :minPrice and :maxPrice
+            """)
+    List<Quote> findAllByCoverageTypeAndPriceBetween(CoverageType coverageType, BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable);
+
+    /**
+     * Moves up to {@code batchSize} quotes soft-deleted before {@code deletedBefore} into quote_archive in one
+     * statement. Rows already locked by another transaction are skipped, so a batch never waits on live traffic.
+     *
+     * @return number of archived quotes
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "quote"))
+    @Transactional
+    @Query(nativeQuery = true, value = """
+            with archived as (
+                delete from quote
+                where id in (
+                    select id from quote
+                    where deleted_at < :deletedBefore
+                    order by deleted_at
+                    limit :batchSize
+                    for update skip locked
+                )
+                returning id, created_at, updated_at, deleted_at, version, coverage_type, price, provider_id, provider_name, provider_active
+            )
+            insert into quote_archive (id, created_at, updated_at, deleted_at, version, coverage_type, price, provider_id, provider_name, provider_active, archived_at)
+            select id, created_at, updated_at, deleted_at, version, coverage_type, price, provider_id, provider_name, provider_active, :archivedAt
+            from archived
+            """)
+    int archiveDeletedBefore(LocalDateTime deletedBefore, int batchSize, LocalDateTime archivedAt);
+
+    /**
+     * Copies a provider's new name onto its active quotes in one statement.
+     *
+     * @return number of updated quotes
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "quote"))
+    @Query(nativeQuery = true, value = """
+            update quote set provider_name = :providerName, version = version + 1, updated_at = :updatedAt
+            where provider_id = :providerId and deleted_at is null
+            """)
+    int updateProviderName(long providerId, String providerName, LocalDateTime updatedAt);
 
+    /**
+     * Hides the active quotes of a soft-deleted provider from every read in one statement.
+     *
+     * @return number of updated quotes
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "quote"))
+    @Query(nativeQuery = true, value = """
+            update quote set provider_active = false, version = version + 1, updated_at = :updatedAt
+            where provider_id = :providerId and deleted_at is null and provider_active
+            """)
+    int deactivateByProviderId(long providerId, LocalDateTime updatedAt);
+}
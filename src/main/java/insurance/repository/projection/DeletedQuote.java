@@ -0,0 +1,14 @@
+package insurance.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Row returned by {@link insurance.repository.QuoteRepository#softDeleteById}; the coverage type is the enum name.
+ */
+public interface DeletedQuote {
+    String getCoverageType();
+
+    Long getProviderId();
+
+    BigDecimal getPrice();
+}
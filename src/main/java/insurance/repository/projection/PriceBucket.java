@@ -0,0 +1,19 @@
+package insurance.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One row of quote_price_rollup, read by {@link insurance.repository.QuotePriceHistoryRepository#findBuckets}.
+ */
+public interface PriceBucket {
+    LocalDateTime getBucketStart();
+
+    BigDecimal getMinPrice();
+
+    BigDecimal getMaxPrice();
+
+    BigDecimal getPriceSum();
+
+    long getPriceCount();
+}
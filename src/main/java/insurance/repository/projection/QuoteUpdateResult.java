@@ -0,0 +1,26 @@
+package insurance.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Outcome of {@link insurance.repository.QuoteRepository#updateIfChanged}; coverage types are the enum names.
+ */
+public interface QuoteUpdateResult {
+    String getOldCoverageType();
+
+    String getNewCoverageType();
+
+    Long getProviderId();
+
+    BigDecimal getPrice();
+
+    /**
+     * The provider already has another active quote for the new coverage type, so nothing was written.
+     */
+    boolean isDuplicate();
+
+    /**
+     * A row was written; false for a no-op update or a duplicate.
+     */
+    boolean isUpdated();
+}
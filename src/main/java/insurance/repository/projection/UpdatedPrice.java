@@ -0,0 +1,16 @@
+package insurance.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Row returned by {@link insurance.repository.QuoteRepository#updatePrices}; the coverage type is the enum name.
+ */
+public interface UpdatedPrice {
+    Long getQuoteId();
+
+    Long getProviderId();
+
+    String getCoverageType();
+
+    BigDecimal getPrice();
+}
@@ -2,15 +2,21 @@ package insurance.service;
 
 
 import insurance.config.CacheNames;
+import insurance.config.datasource.PrimaryReads;
+import insurance.config.datasource.QuoteShards;
+import insurance.domain.Quote;
 import insurance.repository.QuoteRepository;
 import insurance.service.dto.AggregationRequestDto;
 import insurance.service.dto.AggregationResultDto;
 import insurance.service.dto.mapper.DtoMapper;
 import insurance.service.strategy.AggregationStrategyResolver;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 
 import java.util.List;
@@ -22,12 +28,24 @@ public class AggregationService {
     private final AggregationStrategyResolver aggregationStrategyResolver;
     private final DtoMapper dtoMapper;
     private final QuoteRepository quoteRepository;
+    private final ObservationRegistry observationRegistry;
+    private final QuoteShards quoteShards;
 
-    @Cacheable(cacheNames = CacheNames.AGGREGATED_DATA, key = "{#requestDto.aggregationType,#requestDto.coverageTypeDto}")
+    /**
+     * Each stage of a cache miss is an observation of its own, so a trace shows the query (with its JDBC spans),
+     * sorting and mapping separately.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.AGGREGATED_DATA, key = "T(insurance.config.CacheKeys).aggregation(#requestDto.aggregationType, #requestDto.coverageTypeDto)")
     public AggregationResultDto getAggregatedData(AggregationRequestDto requestDto) {
         var coverageType = dtoMapper.getCoverageType(requestDto.getCoverageTypeDto());
 
-        var quotes = quoteRepository.findAllByCoverageType(List.of(coverageType));
+        List<Quote> quotes;
+        try (var _ = PrimaryReads.use(); var _ = quoteShards.route(quoteShards.of(coverageType))) {
+            quotes = Observation.createNotStarted("quote.aggregation.load", observationRegistry)
+                    .lowCardinalityKeyValue("coverage.type", coverageType.name())
+                    .observe(() -> quoteRepository.findAllByCoverageType(List.of(coverageType)));
+        }
         if (CollectionUtils.isEmpty(quotes)) {
             log.warn("No quotes found for coverage type: {}", coverageType);
             return AggregationResultDto.builder()
@@ -37,11 +55,13 @@ public class AggregationService {
         }
 
         var aggregationType = dtoMapper.getAggregationType(requestDto.getAggregationType());
-        var sortedData = aggregationStrategyResolver
-                .resolve(aggregationType)
-                .aggregate(quotes);
+        var strategy = aggregationStrategyResolver.resolve(aggregationType);
+        var sortedData = Observation.createNotStarted("quote.aggregation.sort", observationRegistry)
+                .lowCardinalityKeyValue("aggregation.type", aggregationType.name())
+                .observe(() -> strategy.aggregate(quotes));
 
-        var sortedDataDto = sortedData.stream().map(dtoMapper::getQuoteResponseDto).toList();
+        var sortedDataDto = Observation.createNotStarted("quote.aggregation.map", observationRegistry)
+                .observe(() -> sortedData.stream().map(dtoMapper::getQuoteResponseDto).toList());
 
         return AggregationResultDto.builder()
                 .sortedQuotes(sortedDataDto)
@@ -0,0 +1,88 @@
+package insurance.service;
+
+import insurance.domain.enumaration.CoverageType;
+import insurance.service.bundle.ProviderPriceMatrix;
+import insurance.service.dto.BundleOfferDto;
+import insurance.service.dto.BundleRequestDto;
+import insurance.service.dto.BundleResultDto;
+import insurance.service.dto.QuoteResponseDto;
+import insurance.service.dto.mapper.DtoMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+
+@Service
+@RequiredArgsConstructor
+public class BundleService {
+    private final ProviderPriceMatrix providerPriceMatrix;
+    private final DtoMapper dtoMapper;
+
+    public BundleResultDto findCheapestBundle(BundleRequestDto requestDto) {
+        var coverageTypes = requestDto.getCoverageTypeDto().stream()
+                .map(dtoMapper::getCoverageType)
+                .sorted()
+                .toArray(CoverageType[]::new);
+        var snapshot = providerPriceMatrix.getSnapshot();
+
+        return BundleResultDto.builder()
+                .singleProvider(singleProviderOffer(snapshot, coverageTypes))
+                .mixed(mixedOffer(snapshot, coverageTypes))
+                .build();
+    }
+
+    private BundleOfferDto singleProviderOffer(ProviderPriceMatrix.Snapshot snapshot, CoverageType[] coverageTypes) {
+        var provider = snapshot.cheapestSingleProvider(coverageTypes);
+        if (provider < 0) {
+            return null;
+        }
+
+        var offer = new OfferBuilder(coverageTypes.length);
+        for (var coverageType : coverageTypes) {
+            offer.add(snapshot, provider, coverageType);
+        }
+
+        return offer.build();
+    }
+
+    private BundleOfferDto mixedOffer(ProviderPriceMatrix.Snapshot snapshot, CoverageType[] coverageTypes) {
+        var offer = new OfferBuilder(coverageTypes.length);
+        for (var coverageType : coverageTypes) {
+            var provider = snapshot.cheapestProvider(coverageType);
+            if (provider < 0) {
+                return null;
+            }
+
+            offer.add(snapshot, provider, coverageType);
+        }
+
+        return offer.build();
+    }
+
+    private class OfferBuilder {
+        private final ArrayList<QuoteResponseDto> quotes;
+        private BigDecimal total = BigDecimal.ZERO;
+
+        OfferBuilder(int size) {
+            quotes = new ArrayList<>(size);
+        }
+
+        void add(ProviderPriceMatrix.Snapshot snapshot, int provider, CoverageType coverageType) {
+            var price = BigDecimal.valueOf(snapshot.priceInCents(provider, coverageType), 2);
+            total = total.add(price);
+            quotes.add(QuoteResponseDto.builder()
+                    .coverageType(dtoMapper.getCoverageTypeDto(coverageType))
+                    .price(price)
+                    .providerName(snapshot.providerName(provider))
+                    .build());
+        }
+
+        BundleOfferDto build() {
+            return BundleOfferDto.builder()
+                    .totalPrice(total)
+                    .quotes(quotes)
+                    .build();
+        }
+    }
+}
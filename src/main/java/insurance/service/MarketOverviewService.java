@@ -0,0 +1,99 @@
+package insurance.service;
+
+import insurance.config.ApplicationProperties;
+import insurance.service.dto.*;
+import insurance.service.dto.enumeration.AggregationTypeDto;
+import insurance.service.dto.enumeration.CoverageTypeDto;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Builds the overview of every coverage type by running one cached aggregation per coverage type in parallel on
+ * virtual threads, all under one deadline. Branches that fail or miss the deadline are reported as unavailable
+ * instead of failing the whole overview.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class MarketOverviewService {
+    private static final CoverageTypeDto[] COVERAGE_TYPES = CoverageTypeDto.values();
+
+    private final AggregationService aggregationService;
+    private final ApplicationProperties applicationProperties;
+    // branches join the trace of the request
+    private final ExecutorService executor = ContextExecutorService.wrap(Executors.newVirtualThreadPerTaskExecutor(),
+            ContextSnapshotFactory.builder().build()::captureAll);
+
+    public MarketOverviewDto getMarketOverview() {
+        var tasks = new ArrayList<Callable<CoverageOverviewDto>>(COVERAGE_TYPES.length);
+        for (var coverageType : COVERAGE_TYPES) {
+            tasks.add(() -> overview(coverageType));
+        }
+
+        List<Future<CoverageOverviewDto>> futures;
+        try {
+            var timeout = applicationProperties.getMarketOverview().getTimeout();
+            futures = executor.invokeAll(tasks, timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Market overview interrupted");
+        }
+
+        var overviews = new ArrayList<CoverageOverviewDto>(COVERAGE_TYPES.length);
+        var unavailable = new ArrayList<CoverageTypeDto>();
+        for (int i = 0; i < COVERAGE_TYPES.length; i++) {
+            var future = futures.get(i);
+            if (future.state() == Future.State.SUCCESS) {
+                overviews.add(future.resultNow());
+                continue;
+            }
+
+            if (future.state() == Future.State.FAILED) {
+                log.warn("Market overview failed for coverage type: {}", COVERAGE_TYPES[i], future.exceptionNow());
+            } else {
+                log.warn("Market overview timed out for coverage type: {}", COVERAGE_TYPES[i]);
+            }
+            unavailable.add(COVERAGE_TYPES[i]);
+        }
+
+        return MarketOverviewDto.builder()
+                .coverageTypes(overviews)
+                .unavailable(unavailable)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private CoverageOverviewDto overview(CoverageTypeDto coverageType) {
+        var aggregation = aggregationService.getAggregatedData(AggregationRequestDto.builder()
+                .aggregationType(AggregationTypeDto.CHEAPEST)
+                .coverageTypeDto(coverageType)
+                .build());
+
+        var quotes = aggregation.getSortedQuotes();
+        if (quotes.isEmpty()) {
+            return CoverageOverviewDto.builder()
+                    .coverageType(coverageType)
+                    .quoteCount(0)
+                    .build();
+        }
+
+        return CoverageOverviewDto.builder()
+                .coverageType(coverageType)
+                .best(aggregation.getBest())
+                .quoteCount(quotes.size())
+                .priceSpread(quotes.getLast().getPrice().subtract(quotes.getFirst().getPrice()))
+                .build();
+    }
+}
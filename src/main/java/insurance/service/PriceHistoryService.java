@@ -0,0 +1,76 @@
+package insurance.service;
+
+import insurance.config.ApplicationProperties;
+import insurance.config.datasource.QuoteShards;
+import insurance.repository.QuotePriceHistoryRepository;
+import insurance.repository.projection.PriceBucket;
+import insurance.service.dto.PriceBucketDto;
+import insurance.service.dto.PriceHistoryRequestDto;
+import insurance.service.dto.mapper.DtoMapper;
+import insurance.service.event.QuoteChangedEvent;
+import insurance.web.rest.errors.InsuranceErrorType;
+import insurance.web.rest.errors.InsuranceException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PriceHistoryService {
+    private final QuotePriceHistoryRepository quotePriceHistoryRepository;
+    private final DtoMapper dtoMapper;
+    private final ApplicationProperties applicationProperties;
+    private final QuoteShards quoteShards;
+
+    /**
+     * Records the price of every created or changed quote in the writing transaction, as late as possible so the
+     * rollup rows stay locked only for the commit.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onQuoteChanged(QuoteChangedEvent event) {
+        if (event.getChangeType() == QuoteChangedEvent.ChangeType.DELETED) {
+            return;
+        }
+
+        quotePriceHistoryRepository.record(event.getQuoteId(), event.getProviderId(), event.getCoverageType().name(),
+                event.getPrice(), LocalDateTime.now());
+    }
+
+    @Transactional(readOnly = true)
+    public List<PriceBucketDto> getPriceHistory(PriceHistoryRequestDto requestDto) {
+        var granularity = dtoMapper.getPriceBucketGranularity(requestDto.getGranularity());
+        var from = requestDto.getFrom().truncatedTo(granularity.getUnit());
+        var to = requestDto.getTo();
+
+        var maxBuckets = applicationProperties.getPriceHistory().getMaxBuckets();
+        if (!from.isBefore(to) || from.plus(maxBuckets, granularity.getUnit()).isBefore(to)) {
+            log.debug("Invalid price history range {} - {} for granularity {}", from, to, granularity);
+            throw InsuranceException.stackless(InsuranceErrorType.BAD_REQUEST);
+        }
+
+        var coverageType = dtoMapper.getCoverageType(requestDto.getCoverageTypeDto());
+        List<PriceBucket> buckets;
+        try (var _ = quoteShards.route(quoteShards.of(coverageType))) {
+            buckets = quotePriceHistoryRepository.findBuckets(coverageType.name(), granularity.name(), from, to);
+        }
+
+        return buckets.stream()
+                .map(bucket -> PriceBucketDto.builder()
+                        .bucketStart(bucket.getBucketStart())
+                        .minPrice(bucket.getMinPrice())
+                        .avgPrice(bucket.getPriceSum().divide(BigDecimal.valueOf(bucket.getPriceCount()), 2, RoundingMode.HALF_UP))
+                        .maxPrice(bucket.getMaxPrice())
+                        .priceCount(bucket.getPriceCount())
+                        .build())
+                .toList();
+    }
+}
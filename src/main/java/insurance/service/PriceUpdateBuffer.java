@@ -0,0 +1,141 @@
+package insurance.service;
+
+import insurance.config.ApplicationProperties;
+import insurance.config.datasource.QuoteShards;
+import insurance.service.dto.UpdateQuoteRequestDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind buffer for price-only quote updates. An update is acknowledged once it is in memory; only the latest
+ * price per quote is kept, and every {@code application.price-update-buffer.flush-interval} the buffered prices are
+ * written {@code batchSize} quotes per statement, so the database and caches see at most one write per quote per
+ * interval.
+ * <p>
+ * Durability: acknowledged updates are written by the next flush, or when the application shuts down gracefully. If
+ * the instance dies first they are lost, and a failed write is retried at the next flush unless a newer price
+ * arrived meanwhile. Updates of unknown or deleted quotes, or of deleted providers, are acknowledged and dropped at
+ * flush. An update that changes the coverage type is written synchronously and discards the buffered price of its
+ * quote, but one already being flushed may still land after it.
+ * <p>
+ * All of this holds per instance. Each instance has its own buffer and flushes on its own schedule, so with several
+ * instances an older price buffered on one can be written after a newer one from another and overwrite it, and a
+ * coverage type change handled by one instance does not discard the price buffered on another. Enable the buffer
+ * only where the load balancer routes all updates of a quote to the same instance.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(prefix = "application.price-update-buffer", name = "enabled", havingValue = "true")
+public class PriceUpdateBuffer {
+    private final QuoteService quoteService;
+    private final QuoteShards quoteShards;
+    private final int batchSize;
+    private final int maxPending;
+    private final Counter coalesced;
+
+    private final Map<Long, BigDecimal> pending = new ConcurrentHashMap<>();
+
+    public PriceUpdateBuffer(QuoteService quoteService, QuoteShards quoteShards, ApplicationProperties applicationProperties,
+                             MeterRegistry meterRegistry) {
+        var properties = applicationProperties.getPriceUpdateBuffer();
+        this.quoteService = quoteService;
+        this.quoteShards = quoteShards;
+        this.batchSize = properties.getBatchSize();
+        this.maxPending = properties.getMaxPending();
+
+        Gauge.builder("quote.price.buffer.pending", pending, Map::size)
+                .description("Quotes with a price update not yet written")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("quote.price.buffer.coalesced")
+                .description("Buffered price updates replaced by a newer one before they were written")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return false if the update has to be written synchronously: it changes more than the price, or the buffer
+     * is full
+     */
+    public boolean offer(UpdateQuoteRequestDto requestDto) {
+        var quoteId = requestDto.getQuoteId();
+        if (requestDto.getPrice() == null || requestDto.getCoverageTypeDto() != null) {
+            if (requestDto.getPrice() != null) {
+                pending.remove(quoteId);
+            }
+            return false;
+        }
+
+        if (pending.size() >= maxPending && !pending.containsKey(quoteId)) {
+            return false;
+        }
+
+        if (pending.put(quoteId, requestDto.getPrice()) != null) {
+            coalesced.increment();
+        }
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${application.price-update-buffer.flush-interval}")
+    public synchronized void flush() {
+        // a batch is written by one statement, so it holds quotes of one shard only
+        var batches = new HashMap<Integer, Map<Long, BigDecimal>>();
+        // a shard that is down does not hold back the others; its remaining quotes stay pending for the next flush
+        var failedShards = new HashSet<Integer>();
+        for (var quoteId : pending.keySet()) {
+            var shard = quoteShards.ofQuote(quoteId);
+            if (failedShards.contains(shard)) {
+                continue;
+            }
+            var price = pending.remove(quoteId);
+            if (price == null) {
+                continue;
+            }
+
+            var batch = batches.computeIfAbsent(shard, _ -> new HashMap<>());
+            batch.put(quoteId, price);
+            if (batch.size() == batchSize) {
+                batches.remove(shard);
+                if (!write(batch)) {
+                    failedShards.add(shard);
+                }
+            }
+        }
+
+        batches.values().forEach(this::write);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        if (!pending.isEmpty()) {
+            log.error("Lost {} buffered price updates on shutdown", pending.size());
+        }
+    }
+
+    private boolean write(Map<Long, BigDecimal> batch) {
+        try {
+            quoteService.updatePrices(batch);
+            return true;
+        } catch (RuntimeException e) {
+            requeue(batch);
+            log.warn("Could not write {} buffered price updates, retrying at the next flush", batch.size(), e);
+            return false;
+        }
+    }
+
+    private void requeue(Map<Long, BigDecimal> batch) {
+        // a newer price that arrived meanwhile wins over the unwritten one
+        batch.forEach(pending::putIfAbsent);
+    }
+}
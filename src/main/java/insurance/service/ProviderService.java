@@ -0,0 +1,97 @@
+package insurance.service;
+
+import insurance.annotations.CleanAllCaches;
+import insurance.config.datasource.QuoteShards;
+import insurance.domain.Provider;
+import insurance.repository.ProviderRepository;
+import insurance.repository.QuoteRepository;
+import insurance.service.dto.UpdateProviderRequestDto;
+import insurance.service.event.ProviderChangedEvent;
+import insurance.web.rest.errors.InsuranceErrorType;
+import insurance.web.rest.errors.InsuranceException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Provider name and state are copied onto every active quote, so quote reads never join provider; each change here
+ * is followed by one set-based update of the provider's quotes in the same transaction. Providers are replicated to
+ * every quote shard, which is changed one after the other; each shard's provider row is read and locked there,
+ * never taken from the second-level cache.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ProviderService {
+    private final ProviderRepository providerRepository;
+    private final QuoteRepository quoteRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final QuoteShards quoteShards;
+
+    @Transactional
+    @CleanAllCaches
+    public void renameProvider(UpdateProviderRequestDto requestDto) {
+        if (quoteShards.writeEach(shard -> renameProvider(requestDto.getProviderId(), requestDto.getName()))) {
+            eventPublisher.publishEvent(new ProviderChangedEvent(requestDto.getProviderId()));
+        }
+    }
+
+    @Transactional
+    @CleanAllCaches
+    public void deleteProvider(Long id) {
+        var now = LocalDateTime.now();
+        if (quoteShards.writeEach(shard -> deleteProvider(id, now, shard > 0))) {
+            eventPublisher.publishEvent(new ProviderChangedEvent(id));
+        }
+    }
+
+    /**
+     * A shard after the first may already carry the new name from an earlier, partially applied request.
+     */
+    private boolean renameProvider(Long providerId, String name) {
+        var provider = getActiveProvider(providerId);
+        if (provider.getName().equals(name)) {
+            return false;
+        }
+
+        if (providerRepository.existsByName(name)) {
+            log.debug("Provider with name {} already exists", name);
+            throw InsuranceException.stackless(InsuranceErrorType.BAD_REQUEST);
+        }
+
+        provider.setName(name);
+        providerRepository.save(provider);
+
+        var quotes = quoteRepository.updateProviderName(provider.getId(), provider.getName(), LocalDateTime.now());
+        log.debug("Renamed provider {} on {} quotes", provider.getId(), quotes);
+        return true;
+    }
+
+    /**
+     * @param replica the provider may already be deleted on this shard by an earlier, partially applied request
+     */
+    private boolean deleteProvider(Long id, LocalDateTime now, boolean replica) {
+        var provider = replica ? providerRepository.findForUpdateById(id).orElse(null) : getActiveProvider(id);
+        if (provider == null || provider.getDeletedAt() != null) {
+            return false;
+        }
+
+        provider.setDeletedAt(now);
+        providerRepository.save(provider);
+
+        var quotes = quoteRepository.deactivateByProviderId(provider.getId(), now);
+        log.debug("Deactivated {} quotes of deleted provider {}", quotes, provider.getId());
+        return true;
+    }
+
+    private Provider getActiveProvider(Long id) {
+        return providerRepository.findForUpdateById(id).filter(provider -> provider.getDeletedAt() == null).orElseThrow(() -> {
+            log.debug("Provider with id {} not found", id);
+            return InsuranceException.stackless(InsuranceErrorType.NOT_FOUND);
+        });
+    }
+}
@@ -0,0 +1,55 @@
+package insurance.service;
+
+import insurance.config.ApplicationProperties;
+import insurance.config.datasource.QuoteShards;
+import insurance.repository.QuoteRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "application.archival", name = "enabled", havingValue = "true")
+public class QuoteArchivalService {
+    private final QuoteRepository quoteRepository;
+    private final ApplicationProperties applicationProperties;
+    private final QuoteShards quoteShards;
+
+    @Scheduled(fixedDelayString = "${application.archival.fixed-delay}", initialDelayString = "${application.archival.fixed-delay}")
+    public void archiveDeletedQuotes() {
+        var archival = applicationProperties.getArchival();
+        var deletedBefore = LocalDateTime.now().minus(archival.getRetention());
+
+        var total = 0;
+        for (var shard : quoteShards.all()) {
+            try (var _ = quoteShards.route(shard)) {
+                total += archiveDeletedQuotes(deletedBefore);
+            }
+        }
+
+        if (total > 0) {
+            log.info("Archived {} quotes deleted before {}", total, deletedBefore);
+        }
+    }
+
+    private int archiveDeletedQuotes(LocalDateTime deletedBefore) {
+        var archival = applicationProperties.getArchival();
+
+        var total = 0;
+        for (var batch = 0; batch < archival.getMaxBatchesPerRun(); batch++) {
+            // every batch commits on its own, so row locks are held only for one bounded delete
+            var archived = quoteRepository.archiveDeletedBefore(deletedBefore, archival.getBatchSize(), LocalDateTime.now());
+            total += archived;
+
+            if (archived < archival.getBatchSize()) {
+                break;
+            }
+        }
+        return total;
+    }
+}
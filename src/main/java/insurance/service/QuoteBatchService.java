@@ -0,0 +1,97 @@
+package insurance.service;
+
+import insurance.config.CacheNames;
+import insurance.config.cache.BulkCache;
+import insurance.config.datasource.PrimaryReads;
+import insurance.config.datasource.QuoteShards;
+import insurance.domain.Quote;
+import insurance.repository.QuoteRepository;
+import insurance.service.dto.GetQuoteBatchRequestDto;
+import insurance.service.dto.QuoteBatchItemDto;
+import insurance.service.dto.QuoteResponseDto;
+import insurance.service.dto.mapper.DtoMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Batch counterpart of {@link QuoteService#getQuote}, sharing its {@link CacheNames#QUOTE_CACHE} entries: one
+ * multi-key cache read, one query for the misses and one multi-key cache write.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class QuoteBatchService {
+    private final QuoteRepository quoteRepository;
+    private final DtoMapper dtoMapper;
+    private final CacheManager cacheManager;
+    private final QuoteShards quoteShards;
+
+    @Transactional(readOnly = true)
+    public List<QuoteBatchItemDto> getQuotes(GetQuoteBatchRequestDto requestDto) {
+        var ids = new LinkedHashSet<>(requestDto.getQuoteIds());
+        var cache = cacheManager.getCache(CacheNames.QUOTE_CACHE);
+
+        var quotes = new HashMap<Long, QuoteResponseDto>(getCached(cache, ids));
+
+        var missingIds = ids.stream().filter(id -> !quotes.containsKey(id)).toList();
+        if (!missingIds.isEmpty()) {
+            var missingIdsByShard = missingIds.stream().collect(Collectors.groupingBy(quoteShards::ofQuote));
+            List<List<Quote>> quotesByShard;
+            try (var _ = PrimaryReads.use()) {
+                quotesByShard = quoteShards.scatter(missingIdsByShard.keySet(),
+                        shard -> quoteRepository.findAllByIdInAndDeletedAtIsNull(missingIdsByShard.get(shard)));
+            }
+
+            var loaded = new HashMap<Long, QuoteResponseDto>();
+            for (var shardQuotes : quotesByShard) {
+                shardQuotes.forEach(quote -> loaded.put(quote.getId(), dtoMapper.getQuoteResponseDto(quote)));
+            }
+            log.debug("Batch of {} quotes: {} cached, {} loaded", ids.size(), ids.size() - missingIds.size(), loaded.size());
+
+            putCached(cache, loaded);
+            quotes.putAll(loaded);
+        }
+
+        return requestDto.getQuoteIds().stream()
+                .map(id -> new QuoteBatchItemDto(id, quotes.get(id)))
+                .toList();
+    }
+
+    private static Map<Long, QuoteResponseDto> getCached(Cache cache, LinkedHashSet<Long> ids) {
+        var cached = new HashMap<Long, QuoteResponseDto>();
+        if (cache instanceof BulkCache bulkCache) {
+            bulkCache.getAll(ids).forEach((id, quote) -> cached.put((Long) id, (QuoteResponseDto) quote));
+        } else if (cache != null) {
+            for (var id : ids) {
+                var quote = cache.get(id, QuoteResponseDto.class);
+                if (quote != null) {
+                    cached.put(id, quote);
+                }
+            }
+        }
+
+        return cached;
+    }
+
+    private static void putCached(Cache cache, Map<Long, QuoteResponseDto> quotes) {
+        if (quotes.isEmpty()) {
+            return;
+        }
+
+        if (cache instanceof BulkCache bulkCache) {
+            bulkCache.putAll(quotes);
+        } else if (cache != null) {
+            quotes.forEach(cache::put);
+        }
+    }
+}
@@ -2,127 +2,284 @@ package insurance.service;
 
 import insurance.annotations.CleanAllCaches;
 import insurance.config.CacheNames;
+import insurance.config.datasource.PrimaryReads;
+import insurance.config.datasource.QuoteShards;
 import insurance.domain.Quote;
 import insurance.domain.enumaration.CoverageType;
 import insurance.repository.ProviderRepository;
 import insurance.repository.QuoteRepository;
+import insurance.repository.projection.DeletedQuote;
+import insurance.repository.projection.UpdatedPrice;
+import insurance.service.cache.QuoteCacheInvalidator;
+import insurance.service.cache.QuoteNotFoundCache;
 import insurance.service.dto.CreateQuoteRequestDto;
 import insurance.service.dto.GetQuoteListRequestDto;
+import insurance.service.dto.GetQuotePriceRangeRequestDto;
 import insurance.service.dto.QuoteResponseDto;
 import insurance.service.dto.UpdateQuoteRequestDto;
+import insurance.service.dto.enumeration.SortDirectionDto;
 import insurance.service.dto.mapper.DtoMapper;
+import insurance.service.event.QuoteChangedEvent;
 import insurance.web.rest.errors.InsuranceErrorType;
 import insurance.web.rest.errors.InsuranceException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class QuoteService {
+    private static final int DEFAULT_PRICE_RANGE_LIMIT = 50;
+    /**
+     * Largest value of the decimal(19,2) price column, used when no upper bound is given.
+     */
+    private static final BigDecimal MAX_PRICE = new BigDecimal("99999999999999999.99");
+
     private final QuoteRepository quoteRepository;
     private final ProviderRepository providerRepository;
     private final DtoMapper dtoMapper;
+    private final QuoteNotFoundCache quoteNotFoundCache;
+    private final QuoteCacheInvalidator quoteCacheInvalidator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final QuoteShards quoteShards;
 
     @Transactional
     @CleanAllCaches
     public void createQuote(CreateQuoteRequestDto requestDto) {
-        var provider = providerRepository.findByIdAndDeletedAtIsNull(requestDto.getProviderId()).orElseThrow(() -> {
-                    log.error("Provider with id {} not found", requestDto.getProviderId());
-                    return new InsuranceException(InsuranceErrorType.NOT_FOUND);
-                }
-        );
-
         var coverageType = dtoMapper.getCoverageType(requestDto.getCoverageTypeDto());
-        duplicateQuoteValidation(coverageType, provider.getId());
+        try (var _ = quoteShards.route(quoteShards.of(coverageType))) {
+            // locked against a concurrent delete, which would otherwise miss this quote when deactivating the others
+            var provider = providerRepository.findForShareByIdAndDeletedAtIsNull(requestDto.getProviderId()).orElseThrow(() -> {
+                        log.debug("Provider with id {} not found", requestDto.getProviderId());
+                        return InsuranceException.stackless(InsuranceErrorType.NOT_FOUND);
+                    }
+            );
+
+            duplicateQuoteValidation(coverageType, provider.getId());
 
-        var quote = Quote.builder()
-                .provider(provider)
-                .coverageType(coverageType)
-                .price(requestDto.getPrice())
-                .build();
+            var quote = Quote.builder()
+                    .provider(provider)
+                    .providerName(provider.getName())
+                    .coverageType(coverageType)
+                    .price(requestDto.getPrice())
+                    .build();
 
-        quoteRepository.save(quote);
+            quoteRepository.save(quote);
+            quoteNotFoundCache.evict(quote.getId());
+
+            eventPublisher.publishEvent(QuoteChangedEvent.builder()
+                    .changeType(QuoteChangedEvent.ChangeType.CREATED)
+                    .quoteId(quote.getId())
+                    .providerId(provider.getId())
+                    .providerName(provider.getName())
+                    .coverageType(coverageType)
+                    .price(quote.getPrice())
+                    .build());
+        }
     }
 
-    @CleanAllCaches
     @Transactional
     public void updateQuote(UpdateQuoteRequestDto requestDto) {
-        var quote = quoteRepository.findByIdAndDeletedAtIsNull(requestDto.getQuoteId()).orElseThrow(() -> {
-            log.error("Quote with id {} not found", requestDto.getQuoteId());
-            return new InsuranceException(InsuranceErrorType.NOT_FOUND);
-        });
+        var coverageTypeDto = requestDto.getCoverageTypeDto();
+        var coverageType = coverageTypeDto != null ? dtoMapper.getCoverageType(coverageTypeDto).name() : null;
 
-        var isDirty = false;
+        var shard = quoteShards.ofQuote(requestDto.getQuoteId());
+        if (coverageTypeDto != null && quoteShards.of(dtoMapper.getCoverageType(coverageTypeDto)) != shard) {
+            log.debug("Quote {} cannot move to coverage type {} on another shard", requestDto.getQuoteId(), coverageType);
+            throw InsuranceException.stackless(InsuranceErrorType.BAD_REQUEST);
+        }
 
-        var coverageTypeDto = requestDto.getCoverageTypeDto();
-        var coverageType = dtoMapper.getCoverageType(coverageTypeDto);
-        if (coverageTypeDto != null && !quote.getCoverageType().equals(coverageType)) {
-            duplicateQuoteValidation(coverageType, quote.getProvider().getId());
+        try (var _ = quoteShards.route(shard)) {
+            var result = quoteRepository.updateIfChanged(requestDto.getQuoteId(), coverageType, requestDto.getPrice(), LocalDateTime.now())
+                    .orElseThrow(() -> {
+                        log.debug("Quote with id {} not found", requestDto.getQuoteId());
+                        return InsuranceException.stackless(InsuranceErrorType.NOT_FOUND);
+                    });
 
-            quote.setCoverageType(coverageType);
-            isDirty = true;
+            if (result.isDuplicate()) {
+                log.debug("Quote with coverage type {} for provider id {} already exists", result.getNewCoverageType(), result.getProviderId());
+                throw InsuranceException.stackless(InsuranceErrorType.BAD_REQUEST);
+            }
+
+            if (!result.isUpdated()) {
+                return;
+            }
+
+            var previousCoverageType = CoverageType.valueOf(result.getOldCoverageType());
+            var newCoverageType = CoverageType.valueOf(result.getNewCoverageType());
+            quoteCacheInvalidator.quoteChanged(requestDto.getQuoteId(), previousCoverageType, newCoverageType);
+
+            eventPublisher.publishEvent(QuoteChangedEvent.builder()
+                    .changeType(QuoteChangedEvent.ChangeType.UPDATED)
+                    .quoteId(requestDto.getQuoteId())
+                    .providerId(result.getProviderId())
+                    .previousCoverageType(previousCoverageType)
+                    .coverageType(newCoverageType)
+                    .price(result.getPrice())
+                    .build());
         }
+    }
+
+    /**
+     * Writes price-only updates of many quotes of one shard in one statement, as flushed by
+     * {@link PriceUpdateBuffer}. Unknown, deleted and unchanged quotes are skipped.
+     */
+    @Transactional
+    public void updatePrices(Map<Long, BigDecimal> prices) {
+        var ids = prices.keySet().toArray(Long[]::new);
+        var newPrices = Arrays.stream(ids).map(prices::get).toArray(BigDecimal[]::new);
 
-        var updatedPrice = requestDto.getPrice();
-        if (updatedPrice != null && !quote.getPrice().equals(updatedPrice)) {
-            quote.setPrice(updatedPrice);
-            isDirty = true;
+        List<UpdatedPrice> updatedPrices;
+        try (var _ = quoteShards.route(quoteShards.ofQuote(ids[0]))) {
+            updatedPrices = quoteRepository.updatePrices(ids, newPrices, LocalDateTime.now());
+        }
+        if (updatedPrices.isEmpty()) {
+            return;
         }
 
-        if (isDirty) {
-            quoteRepository.save(quote);
+        var quoteIds = new ArrayList<Long>(updatedPrices.size());
+        var coverageTypes = EnumSet.noneOf(CoverageType.class);
+        for (var updatedPrice : updatedPrices) {
+            quoteIds.add(updatedPrice.getQuoteId());
+            coverageTypes.add(CoverageType.valueOf(updatedPrice.getCoverageType()));
+        }
+        quoteCacheInvalidator.quotesChanged(quoteIds, coverageTypes);
+
+        for (var updatedPrice : updatedPrices) {
+            var coverageType = CoverageType.valueOf(updatedPrice.getCoverageType());
+            eventPublisher.publishEvent(QuoteChangedEvent.builder()
+                    .changeType(QuoteChangedEvent.ChangeType.UPDATED)
+                    .quoteId(updatedPrice.getQuoteId())
+                    .providerId(updatedPrice.getProviderId())
+                    .previousCoverageType(coverageType)
+                    .coverageType(coverageType)
+                    .price(updatedPrice.getPrice())
+                    .build());
         }
     }
 
     private void duplicateQuoteValidation(CoverageType coverageType, long providerId) {
         quoteRepository.findByCoverageTypeAndProviderIdIsAndDeletedAtIsNull(coverageType, providerId).ifPresent(existingQuote -> {
-            log.error("Quote with coverage type {} for provider id {} already exists", coverageType, providerId);
-            throw new InsuranceException(InsuranceErrorType.BAD_REQUEST);
+            log.debug("Quote with coverage type {} for provider id {} already exists", coverageType, providerId);
+            throw InsuranceException.stackless(InsuranceErrorType.BAD_REQUEST);
         });
     }
 
     @Transactional(readOnly = true)
     @Cacheable(cacheNames = CacheNames.QUOTE_CACHE, key = "#id")
     public QuoteResponseDto getQuote(Long id) {
-        var quote = quoteRepository.findByIdAndDeletedAtIsNull(id).orElseThrow(() -> {
-            log.error("Quote with id {} not found", id);
-            return new InsuranceException(InsuranceErrorType.NOT_FOUND);
-        });
+        if (quoteNotFoundCache.isKnownMissing(id)) {
+            throw InsuranceException.stackless(InsuranceErrorType.NOT_FOUND);
+        }
+
+        try (var _ = PrimaryReads.use(); var _ = quoteShards.route(quoteShards.ofQuote(id))) {
+            var quote = quoteRepository.findByIdAndDeletedAtIsNull(id)
+                    .or(() -> markMissingAndRecheck(id))
+                    .orElseThrow(() -> {
+                        log.debug("Quote with id {} not found", id);
+                        return InsuranceException.stackless(InsuranceErrorType.NOT_FOUND);
+                    });
 
-        return dtoMapper.getQuoteResponseDto(quote);
+            return dtoMapper.getQuoteResponseDto(quote);
+        }
     }
 
     @Transactional
-    @CleanAllCaches
     public void deleteQuote(Long id) {
-        quoteRepository.findByIdAndDeletedAtIsNull(id).orElseThrow(() -> {
-            log.error("Quote with id {} not found", id);
-            return new InsuranceException(InsuranceErrorType.NOT_FOUND);
-        });
+        DeletedQuote deletedQuote;
+        try (var _ = quoteShards.route(quoteShards.ofQuote(id))) {
+            deletedQuote = quoteRepository.softDeleteById(LocalDateTime.now(), id).orElseThrow(() -> {
+                log.debug("Quote with id {} not found", id);
+                return InsuranceException.stackless(InsuranceErrorType.NOT_FOUND);
+            });
+        }
 
-        quoteRepository.deleteById(LocalDateTime.now(), id);
+        var coverageType = CoverageType.valueOf(deletedQuote.getCoverageType());
+        quoteCacheInvalidator.quoteChanged(id, coverageType);
+
+        eventPublisher.publishEvent(QuoteChangedEvent.builder()
+                .changeType(QuoteChangedEvent.ChangeType.DELETED)
+                .quoteId(id)
+                .providerId(deletedQuote.getProviderId())
+                .previousCoverageType(coverageType)
+                .build());
     }
 
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.QUOTE_LIST, key = "T(insurance.config.CacheKeys).quoteList(#requestDto.coverageTypeDto)")
     public List<QuoteResponseDto> getQuoteList(GetQuoteListRequestDto requestDto) {
         var coverageTypeDtoList = requestDto.getCoverageTypeDto();
         var coverageTypeList = !CollectionUtils.isEmpty(coverageTypeDtoList) ?
                 dtoMapper.getCoverageTypeList(coverageTypeDtoList) :
                 List.<CoverageType>of();
 
-        var quotes = quoteRepository.findAllByCoverageType(coverageTypeList);
+        // a shard holds only its own coverage types, so every shard gets the same filter
+        var shards = coverageTypeList.isEmpty() ?
+                quoteShards.all() :
+                coverageTypeList.stream().map(quoteShards::of).distinct().toList();
+        List<List<Quote>> quotesByShard;
+        try (var _ = PrimaryReads.use()) {
+            quotesByShard = quoteShards.scatter(shards, shard -> quoteRepository.findAllByCoverageType(coverageTypeList));
+        }
 
-        if (CollectionUtils.isEmpty(quotes)) {
-            return List.of();
+        if (quotesByShard.size() == 1) {
+            return quotesByShard.getFirst().stream().map(dtoMapper::getQuoteResponseDto).toList();
         }
 
-        return quotes.stream().map(dtoMapper::getQuoteResponseDto).toList();
+        return quotesByShard.stream()
+                .flatMap(List::stream)
+                .sorted(Comparator.comparing(Quote::getCreatedAt).reversed())
+                .map(dtoMapper::getQuoteResponseDto)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<QuoteResponseDto> getQuotesInPriceRange(GetQuotePriceRangeRequestDto requestDto) {
+        var minPrice = requestDto.getMinPrice() != null ? requestDto.getMinPrice() : BigDecimal.ZERO;
+        var maxPrice = requestDto.getMaxPrice() != null ? requestDto.getMaxPrice() : MAX_PRICE;
+        if (minPrice.compareTo(maxPrice) > 0) {
+            log.debug("Invalid price range {} - {}", minPrice, maxPrice);
+            throw InsuranceException.stackless(InsuranceErrorType.BAD_REQUEST);
+        }
+
+        var direction = requestDto.getSortDirection() == SortDirectionDto.DESC ? Sort.Direction.DESC : Sort.Direction.ASC;
+        var limit = requestDto.getLimit() != null ? requestDto.getLimit() : DEFAULT_PRICE_RANGE_LIMIT;
+        var pageable = PageRequest.of(0, limit, Sort.by(direction, "price", "id"));
+
+        var coverageType = dtoMapper.getCoverageType(requestDto.getCoverageTypeDto());
+        try (var _ = quoteShards.route(quoteShards.of(coverageType))) {
+            var quotes = quoteRepository.findAllByCoverageTypeAndPriceBetween(coverageType, minPrice, maxPrice, pageable);
+
+            return quotes.stream().map(dtoMapper::getQuoteResponseDto).toList();
+        }
+    }
+
+    /**
+     * A create committing between the first read and {@code markMissing} has already evicted the id, so it is read
+     * once more: the quote is either visible now, and the mark is removed again, or its create evicts the mark later.
+     */
+    private Optional<Quote> markMissingAndRecheck(Long id) {
+        quoteNotFoundCache.markMissing(id);
+
+        var quote = quoteRepository.findByIdAndDeletedAtIsNull(id);
+        quote.ifPresent(_ -> quoteNotFoundCache.evict(id));
+        return quote;
     }
 }
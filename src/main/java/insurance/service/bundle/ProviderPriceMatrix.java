@@ -0,0 +1,271 @@
+package insurance.service.bundle;
+
+import insurance.config.datasource.QuoteShards;
+import insurance.domain.enumaration.CoverageType;
+import insurance.repository.QuoteRepository;
+import insurance.service.event.PriceMatrixChangedEvent;
+import insurance.service.event.ProviderChangedEvent;
+import insurance.service.event.QuoteChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Price of the active quote of every provider for every coverage type, as a dense provider x coverage type matrix
+ * of cents. Loaded on first use, kept current by this node's quote writes and fully reloaded every
+ * {@code application.bundle.refresh-interval} to pick up writes made by other nodes. Provider changes reload it.
+ * <p>
+ * Readers work on an immutable {@link Snapshot} without locking; writers replace it and publish a
+ * {@link PriceMatrixChangedEvent}.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ProviderPriceMatrix {
+    public static final long NO_QUOTE = Long.MAX_VALUE;
+    static final int COVERAGE_TYPES = CoverageType.values().length;
+
+    private final QuoteRepository quoteRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final QuoteShards quoteShards;
+
+    private volatile Snapshot snapshot;
+
+    public Snapshot getSnapshot() {
+        var current = snapshot;
+        return current != null ? current : reload();
+    }
+
+    public synchronized Snapshot reload() {
+        var quotesByShard = quoteShards.scatter(quoteShards.all(), shard -> quoteRepository.findAllByCoverageType(List.of()));
+        var builder = new Snapshot(new long[0], new String[0], new long[0]).toBuilder();
+        for (var quotes : quotesByShard) {
+            for (var quote : quotes) {
+                var priceInCents = toCents(quote.getPrice());
+                if (priceInCents == NO_QUOTE) {
+                    log.warn("Price of quote {} does not fit in the price matrix, leaving it out", quote.getId());
+                    continue;
+                }
+
+                builder.setPrice(quote.getProvider().getId(), quote.getProviderName(), quote.getCoverageType(), priceInCents);
+            }
+        }
+
+        return replace(builder.build());
+    }
+
+    @Scheduled(fixedDelayString = "${application.bundle.refresh-interval}", initialDelayString = "${application.bundle.refresh-interval}")
+    public void refresh() {
+        if (snapshot != null) {
+            reload();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onQuoteChanged(QuoteChangedEvent event) {
+        if (snapshot == null) {
+            // not loaded yet, the first reader loads the committed state
+            return;
+        }
+
+        var builder = snapshot.toBuilder();
+        if (event.getPreviousCoverageType() != null) {
+            builder.clearPrice(event.getProviderId(), event.getPreviousCoverageType());
+        }
+        if (event.getCoverageType() != null) {
+            builder.setPrice(event.getProviderId(), event.getProviderName(), event.getCoverageType(), toCents(event.getPrice()));
+        }
+
+        replace(builder.build());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProviderChanged(ProviderChangedEvent event) {
+        refresh();
+    }
+
+    private Snapshot replace(Snapshot newSnapshot) {
+        snapshot = newSnapshot;
+        eventPublisher.publishEvent(new PriceMatrixChangedEvent(newSnapshot));
+        return newSnapshot;
+    }
+
+    /**
+     * @return {@link #NO_QUOTE} for a price beyond the range of long cents; request validation keeps new prices well
+     * below it, but older rows may exceed it
+     */
+    private static long toCents(BigDecimal price) {
+        var cents = price.setScale(2, RoundingMode.HALF_UP).unscaledValue();
+        return cents.bitLength() < Long.SIZE ? cents.longValue() : NO_QUOTE;
+    }
+
+    public static final class Snapshot {
+        private final long[] providerIds;
+        private final String[] providerNames;
+        /**
+         * Row per provider, column per {@link CoverageType#ordinal()}; {@link #NO_QUOTE} where there is none.
+         */
+        private final long[] pricesInCents;
+
+        Snapshot(long[] providerIds, String[] providerNames, long[] pricesInCents) {
+            this.providerIds = providerIds;
+            this.providerNames = providerNames;
+            this.pricesInCents = pricesInCents;
+        }
+
+        public int providerCount() {
+            return providerIds.length;
+        }
+
+        public long providerId(int provider) {
+            return providerIds[provider];
+        }
+
+        public String providerName(int provider) {
+            return providerNames[provider];
+        }
+
+        public long priceInCents(int provider, CoverageType coverageType) {
+            return pricesInCents[provider * COVERAGE_TYPES + coverageType.ordinal()];
+        }
+
+        /**
+         * @return index of the provider whose quotes for all given coverage types cost the least in total,
+         * -1 if no provider quotes all of them
+         */
+        public int cheapestSingleProvider(CoverageType[] coverageTypes) {
+            var best = -1;
+            var bestTotal = NO_QUOTE;
+            for (var provider = 0; provider < providerIds.length; provider++) {
+                var total = 0L;
+                for (var coverageType : coverageTypes) {
+                    var price = priceInCents(provider, coverageType);
+                    if (price == NO_QUOTE) {
+                        total = NO_QUOTE;
+                        break;
+                    }
+
+                    try {
+                        total = Math.addExact(total, price);
+                    } catch (ArithmeticException e) {
+                        // a total beyond the range of long is never the cheapest
+                        total = NO_QUOTE;
+                        break;
+                    }
+                }
+
+                if (total < bestTotal) {
+                    bestTotal = total;
+                    best = provider;
+                }
+            }
+
+            return best;
+        }
+
+        /**
+         * @return index of the provider with the most expensive quote for the coverage type, -1 if nobody quotes it
+         */
+        public int mostExpensiveProvider(CoverageType coverageType) {
+            var best = -1;
+            var bestPrice = -1L;
+            for (var provider = 0; provider < providerIds.length; provider++) {
+                var price = priceInCents(provider, coverageType);
+                if (price != NO_QUOTE && price > bestPrice) {
+                    bestPrice = price;
+                    best = provider;
+                }
+            }
+
+            return best;
+        }
+
+        /**
+         * @return index of the provider with the cheapest quote for the coverage type, -1 if nobody quotes it
+         */
+        public int cheapestProvider(CoverageType coverageType) {
+            var best = -1;
+            var bestPrice = NO_QUOTE;
+            for (var provider = 0; provider < providerIds.length; provider++) {
+                var price = priceInCents(provider, coverageType);
+                if (price < bestPrice) {
+                    bestPrice = price;
+                    best = provider;
+                }
+            }
+
+            return best;
+        }
+
+        Builder toBuilder() {
+            return new Builder(providerIds.clone(), providerNames.clone(), pricesInCents.clone());
+        }
+    }
+
+    static final class Builder {
+        private long[] providerIds;
+        private String[] providerNames;
+        private long[] pricesInCents;
+        private final Map<Long, Integer> indexByProviderId = new HashMap<>();
+
+        private Builder(long[] providerIds, String[] providerNames, long[] pricesInCents) {
+            this.providerIds = providerIds;
+            this.providerNames = providerNames;
+            this.pricesInCents = pricesInCents;
+            for (var provider = 0; provider < providerIds.length; provider++) {
+                indexByProviderId.put(providerIds[provider], provider);
+            }
+        }
+
+        void setPrice(long providerId, String providerName, CoverageType coverageType, long priceInCents) {
+            var provider = indexOf(providerId);
+            if (provider < 0) {
+                provider = addProvider(providerId, providerName);
+            } else if (providerName != null) {
+                providerNames[provider] = providerName;
+            }
+
+            pricesInCents[provider * COVERAGE_TYPES + coverageType.ordinal()] = priceInCents;
+        }
+
+        void clearPrice(long providerId, CoverageType coverageType) {
+            var provider = indexOf(providerId);
+            if (provider >= 0) {
+                pricesInCents[provider * COVERAGE_TYPES + coverageType.ordinal()] = NO_QUOTE;
+            }
+        }
+
+        Snapshot build() {
+            return new Snapshot(providerIds, providerNames, pricesInCents);
+        }
+
+        private int indexOf(long providerId) {
+            return indexByProviderId.getOrDefault(providerId, -1);
+        }
+
+        private int addProvider(long providerId, String providerName) {
+            var provider = providerIds.length;
+
+            providerIds = Arrays.copyOf(providerIds, provider + 1);
+            providerIds[provider] = providerId;
+            providerNames = Arrays.copyOf(providerNames, provider + 1);
+            providerNames[provider] = providerName;
+            indexByProviderId.put(providerId, provider);
+
+            pricesInCents = Arrays.copyOf(pricesInCents, (provider + 1) * COVERAGE_TYPES);
+            Arrays.fill(pricesInCents, provider * COVERAGE_TYPES, pricesInCents.length, NO_QUOTE);
+
+            return provider;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package insurance.service.cache;
+
+import insurance.config.CacheKeys;
+import insurance.config.CacheNames;
+import insurance.config.cache.BulkCache;
+import insurance.domain.enumaration.CoverageType;
+import insurance.service.dto.enumeration.AggregationTypeDto;
+import insurance.service.dto.enumeration.CoverageTypeDto;
+import insurance.service.dto.mapper.DtoMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * Evicts only the entries a quote change can make stale, instead of clearing every cache. Inside a transaction the
+ * evictions run after commit.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuoteCacheInvalidator {
+    private final CacheManager cacheManager;
+    private final DtoMapper dtoMapper;
+
+    /**
+     * @param coverageTypes coverage types the quote had before and after the change
+     */
+    public void quoteChanged(Long quoteId, CoverageType... coverageTypes) {
+        evict(CacheNames.QUOTE_CACHE, quoteId);
+        coverageTypesChanged(List.of(coverageTypes));
+    }
+
+    /**
+     * Same as {@link #quoteChanged} for many quotes at once, with each cache evicted in one round trip.
+     *
+     * @param coverageTypes coverage types the quotes had before and after the change
+     */
+    public void quotesChanged(Collection<Long> quoteIds, Collection<CoverageType> coverageTypes) {
+        evictAll(CacheNames.QUOTE_CACHE, quoteIds);
+        coverageTypesChanged(coverageTypes);
+    }
+
+    private void coverageTypesChanged(Collection<CoverageType> coverageTypes) {
+        var affectedCoverageTypes = EnumSet.noneOf(CoverageTypeDto.class);
+        for (var coverageType : coverageTypes) {
+            affectedCoverageTypes.add(dtoMapper.getCoverageTypeDto(coverageType));
+        }
+
+        for (var coverageTypeDto : affectedCoverageTypes) {
+            for (var aggregationType : AggregationTypeDto.values()) {
+                evict(CacheNames.AGGREGATED_DATA, CacheKeys.aggregation(aggregationType, coverageTypeDto));
+            }
+        }
+
+        evictAll(CacheNames.QUOTE_LIST, CacheKeys.quoteListsContaining(affectedCoverageTypes));
+    }
+
+    /**
+     * One round trip for all keys where the cache supports it, after commit like {@link #evict}.
+     */
+    private void evictAll(String cacheName, Collection<?> keys) {
+        var cache = cacheManager.getCache(cacheName);
+        if (!(cache instanceof BulkCache bulkCache)) {
+            keys.forEach(key -> evict(cacheName, key));
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bulkCache.evictAll(keys);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bulkCache.evictAll(keys);
+            }
+        });
+    }
+
+    private void evict(String cacheName, Object key) {
+        var cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            new TransactionAwareCacheDecorator(cache).evict(key);
+        }
+    }
+}
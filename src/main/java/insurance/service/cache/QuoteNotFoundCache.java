@@ -0,0 +1,46 @@
+package insurance.service.cache;
+
+import insurance.config.CacheNames;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers quote ids that were looked up and not found, for a short TTL, so repeated lookups of deleted or
+ * nonexistent ids stop reaching the database.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuoteNotFoundCache {
+    private final CacheManager cacheManager;
+
+    public boolean isKnownMissing(Long id) {
+        var cache = getCache();
+        return cache != null && cache.get(id) != null;
+    }
+
+    public void markMissing(Long id) {
+        var cache = getCache();
+        if (cache != null) {
+            cache.put(id, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Called when a quote with this id becomes visible. Inside a transaction the eviction is deferred until commit.
+     * A lookup that read before the commit can still mark the id afterwards, so lookups read again after marking
+     * (see {@code QuoteService#getQuote}).
+     */
+    public void evict(Long id) {
+        var cache = getCache();
+        if (cache != null) {
+            new TransactionAwareCacheDecorator(cache).evict(id);
+        }
+    }
+
+    private Cache getCache() {
+        return cacheManager.getCache(CacheNames.QUOTE_NOT_FOUND_CACHE);
+    }
+}
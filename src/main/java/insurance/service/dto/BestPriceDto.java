@@ -0,0 +1,20 @@
+package insurance.service.dto;
+
+import insurance.service.dto.enumeration.CoverageTypeDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BestPriceDto {
+    private CoverageTypeDto coverageType;
+    /**
+     * Absent when no provider quotes the coverage type anymore.
+     */
+    private QuoteResponseDto cheapest;
+    private QuoteResponseDto mostExpensive;
+}
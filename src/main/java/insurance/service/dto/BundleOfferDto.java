@@ -0,0 +1,18 @@
+package insurance.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BundleOfferDto {
+    private BigDecimal totalPrice;
+    private List<QuoteResponseDto> quotes;
+}
@@ -0,0 +1,19 @@
+package insurance.service.dto;
+
+import insurance.service.dto.enumeration.CoverageTypeDto;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BundleRequestDto {
+    @NotEmpty
+    private Set<CoverageTypeDto> coverageTypeDto;
+}
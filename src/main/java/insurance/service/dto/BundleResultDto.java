@@ -0,0 +1,22 @@
+package insurance.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BundleResultDto {
+    /**
+     * Cheapest bundle bought from one provider; absent if no provider quotes every requested coverage type.
+     */
+    private BundleOfferDto singleProvider;
+
+    /**
+     * Cheapest quote per coverage type, possibly from different providers; absent if a coverage type has no quote.
+     */
+    private BundleOfferDto mixed;
+}
@@ -0,0 +1,20 @@
+package insurance.service.dto;
+
+import insurance.service.dto.enumeration.CoverageTypeDto;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CoverageOverviewDto {
+    private CoverageTypeDto coverageType;
+    private QuoteResponseDto best;
+    private int quoteCount;
+    /**
+     * Most expensive minus cheapest price; {@code null} when there are no quotes.
+     */
+    private BigDecimal priceSpread;
+}
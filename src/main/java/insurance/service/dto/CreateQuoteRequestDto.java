@@ -1,6 +1,7 @@
 package insurance.service.dto;
 
 import insurance.service.dto.enumeration.CoverageTypeDto;
+import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
@@ -11,10 +12,16 @@ import java.math.BigDecimal;
 @AllArgsConstructor
 @Builder
 public class CreateQuoteRequestDto {
+    /**
+     * Keeps the cents of a price, and of a bundle of one quote per coverage type, within a long.
+     */
+    public static final String MAX_PRICE = "999999999999999.99";
+
     @NotNull
     private Long providerId;
     @NotNull
     private CoverageTypeDto coverageTypeDto;
     @NotNull
+    @DecimalMax(MAX_PRICE)
     private BigDecimal price;
 }
@@ -1,6 +1,7 @@
 package insurance.service.dto;
 
 import insurance.service.dto.enumeration.CoverageTypeDto;
+import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,5 +14,5 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 public class GetQuoteListRequestDto {
-    private List<CoverageTypeDto> coverageTypeDto;
+    private List<@NotNull CoverageTypeDto> coverageTypeDto;
 }
@@ -0,0 +1,40 @@
+package insurance.service.dto;
+
+import insurance.service.dto.enumeration.CoverageTypeDto;
+import insurance.service.dto.enumeration.SortDirectionDto;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GetQuotePriceRangeRequestDto {
+    @NotNull
+    private CoverageTypeDto coverageTypeDto;
+
+    @PositiveOrZero
+    private BigDecimal minPrice;
+    @PositiveOrZero
+    private BigDecimal maxPrice;
+
+    /**
+     * Defaults to ascending price.
+     */
+    private SortDirectionDto sortDirection;
+
+    /**
+     * Defaults to 50.
+     */
+    @Min(1)
+    @Max(500)
+    private Integer limit;
+}
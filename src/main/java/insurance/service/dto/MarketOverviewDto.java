@@ -0,0 +1,18 @@
+package insurance.service.dto;
+
+import insurance.service.dto.enumeration.CoverageTypeDto;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MarketOverviewDto {
+    private List<CoverageOverviewDto> coverageTypes;
+    /**
+     * Coverage types whose branch failed or did not finish before the deadline; empty for a complete overview.
+     */
+    private List<CoverageTypeDto> unavailable;
+}
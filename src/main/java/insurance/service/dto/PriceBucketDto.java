@@ -0,0 +1,21 @@
+package insurance.service.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PriceBucketDto {
+    private LocalDateTime bucketStart;
+    private BigDecimal minPrice;
+    private BigDecimal avgPrice;
+    private BigDecimal maxPrice;
+    /**
+     * Prices recorded in this bucket; the average is over these, not weighted by how long each was in effect.
+     */
+    private long priceCount;
+}
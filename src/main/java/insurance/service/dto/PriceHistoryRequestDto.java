@@ -0,0 +1,35 @@
+package insurance.service.dto;
+
+import insurance.service.dto.enumeration.CoverageTypeDto;
+import insurance.service.dto.enumeration.PriceBucketGranularityDto;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PriceHistoryRequestDto {
+    @NotNull
+    private CoverageTypeDto coverageTypeDto;
+
+    @NotNull
+    private PriceBucketGranularityDto granularity;
+
+    /**
+     * Rounded down to the start of its bucket.
+     */
+    @NotNull
+    private LocalDateTime from;
+
+    /**
+     * Exclusive.
+     */
+    @NotNull
+    private LocalDateTime to;
+}
@@ -0,0 +1,18 @@
+package insurance.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuoteBatchItemDto {
+    private Long quoteId;
+    /**
+     * Absent if there is no active quote with this id.
+     */
+    private QuoteResponseDto quote;
+}
@@ -1,5 +1,6 @@
 package insurance.service.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import insurance.service.dto.enumeration.CoverageTypeDto;
 import lombok.*;
 
@@ -13,5 +14,20 @@ public class QuoteResponseDto {
     private CoverageTypeDto coverageType;
     private BigDecimal price;
     private String providerName;
-}
 
+    /**
+     * Id and version of the quote this was mapped from, the key of its cached JSON; null for computed quotes.
+     */
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    private Long id;
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    private Integer version;
+
+    public QuoteResponseDto(CoverageTypeDto coverageType, BigDecimal price, String providerName) {
+        this.coverageType = coverageType;
+        this.price = price;
+        this.providerName = providerName;
+    }
+}
@@ -0,0 +1,22 @@
+package insurance.service.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UpdateProviderRequestDto {
+    @NotNull
+    private Long providerId;
+
+    @NotBlank
+    @Size(max = 255)
+    private String name;
+}
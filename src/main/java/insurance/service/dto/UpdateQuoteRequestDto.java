@@ -1,6 +1,7 @@
 package insurance.service.dto;
 
 import insurance.service.dto.enumeration.CoverageTypeDto;
+import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -17,6 +18,7 @@ public class UpdateQuoteRequestDto {
     @NotNull
     private Long quoteId;
 
+    @DecimalMax(CreateQuoteRequestDto.MAX_PRICE)
     private BigDecimal price;
     private CoverageTypeDto coverageTypeDto;
 }
@@ -0,0 +1,6 @@
+package insurance.service.dto.enumeration;
+
+public enum SortDirectionDto {
+    ASC,
+    DESC,
+}
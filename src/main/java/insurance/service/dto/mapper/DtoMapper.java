@@ -3,9 +3,11 @@ package insurance.service.dto.mapper;
 import insurance.domain.Quote;
 import insurance.domain.enumaration.AggregationType;
 import insurance.domain.enumaration.CoverageType;
+import insurance.domain.enumaration.PriceBucketGranularity;
 import insurance.service.dto.QuoteResponseDto;
 import insurance.service.dto.enumeration.AggregationTypeDto;
 import insurance.service.dto.enumeration.CoverageTypeDto;
+import insurance.service.dto.enumeration.PriceBucketGranularityDto;
 import org.mapstruct.Mapper;
 import org.mapstruct.NullValueMappingStrategy;
 
@@ -15,14 +17,11 @@ import java.util.List;
 public interface DtoMapper {
 
     CoverageType getCoverageType(CoverageTypeDto coverageType);
+    CoverageTypeDto getCoverageTypeDto(CoverageType coverageType);
     List<CoverageType> getCoverageTypeList(List<CoverageTypeDto> coverageTypes);
+    PriceBucketGranularity getPriceBucketGranularity(PriceBucketGranularityDto granularity);
 
-    QuoteResponseDto getQuoteDto(Quote quote);
-    default QuoteResponseDto getQuoteResponseDto(Quote quote){
-        var quoteDto = getQuoteDto(quote);
-        quoteDto.setProviderName(quote.getProvider().getName());
-        return quoteDto;
-    }
+    QuoteResponseDto getQuoteResponseDto(Quote quote);
 
     default AggregationType getAggregationType(AggregationTypeDto aggregationTypeDto) {
         if (aggregationTypeDto == null) {
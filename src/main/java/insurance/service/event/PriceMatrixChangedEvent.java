@@ -0,0 +1,14 @@
+package insurance.service.event;
+
+import insurance.service.bundle.ProviderPriceMatrix;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by {@link ProviderPriceMatrix} every time it replaces its snapshot.
+ */
+@Getter
+@AllArgsConstructor
+public class PriceMatrixChangedEvent {
+    private final ProviderPriceMatrix.Snapshot snapshot;
+}
@@ -0,0 +1,16 @@
+package insurance.service.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published by {@link insurance.service.ProviderService} inside the writing transaction when a provider is renamed
+ * or soft-deleted, after its quotes were updated.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class ProviderChangedEvent {
+    private final Long providerId;
+}
@@ -0,0 +1,45 @@
+package insurance.service.event;
+
+import insurance.domain.enumaration.CoverageType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+
+/**
+ * Published by {@link insurance.service.QuoteService} inside the writing transaction for every quote that was
+ * actually created, changed or deleted.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@ToString
+public class QuoteChangedEvent {
+    private final ChangeType changeType;
+    private final Long quoteId;
+    private final Long providerId;
+    /**
+     * Only known when the quote was created.
+     */
+    private final String providerName;
+    /**
+     * Coverage type before the change; null for a created quote.
+     */
+    private final CoverageType previousCoverageType;
+    /**
+     * Coverage type after the change; null for a deleted quote.
+     */
+    private final CoverageType coverageType;
+    /**
+     * Price after the change; null for a deleted quote.
+     */
+    private final BigDecimal price;
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED,
+    }
+}
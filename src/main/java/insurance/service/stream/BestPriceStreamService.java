@@ -0,0 +1,225 @@
+package insurance.service.stream;
+
+import insurance.config.ApplicationProperties;
+import insurance.domain.enumaration.CoverageType;
+import insurance.service.bundle.ProviderPriceMatrix;
+import insurance.service.dto.BestPriceDto;
+import insurance.service.dto.QuoteResponseDto;
+import insurance.service.dto.enumeration.CoverageTypeDto;
+import insurance.service.dto.mapper.DtoMapper;
+import insurance.service.event.PriceMatrixChangedEvent;
+import insurance.web.rest.errors.InsuranceErrorType;
+import insurance.web.rest.errors.InsuranceException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes the cheapest and most expensive quote of a coverage type to SSE subscribers whenever either changes.
+ * Changes are detected on every {@link ProviderPriceMatrix} update, so this node's writes arrive right after commit
+ * and other nodes' writes with the matrix's periodic reload.
+ * <p>
+ * Publishing only offers events to per-subscriber queues; each subscriber is drained by its own virtual thread,
+ * which parks while idle and sends a heartbeat comment every {@code heartbeat-interval}. A subscriber whose queue
+ * overflows is disconnected and is expected to reconnect.
+ */
+@Service
+@Slf4j
+public class BestPriceStreamService {
+    static final String EVENT_NAME = "best-price";
+    private static final int QUEUE_CAPACITY = 64;
+
+    private final ProviderPriceMatrix providerPriceMatrix;
+    private final DtoMapper dtoMapper;
+    private final ApplicationProperties.BestPriceStream properties;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong eventIds = new AtomicLong();
+
+    // guarded by this
+    private final BestPrice[] bestPrices = new BestPrice[CoverageType.values().length];
+
+    public BestPriceStreamService(ProviderPriceMatrix providerPriceMatrix, DtoMapper dtoMapper,
+                                  ApplicationProperties applicationProperties) {
+        this.providerPriceMatrix = providerPriceMatrix;
+        this.dtoMapper = dtoMapper;
+        this.properties = applicationProperties.getBestPriceStream();
+    }
+
+    /**
+     * @param coverageTypeDtos coverage types to follow, all if empty; the current best prices are sent first
+     */
+    public SseEmitter subscribe(List<CoverageTypeDto> coverageTypeDtos) {
+        if (subscribers.size() >= properties.getMaxSubscribers()) {
+            log.debug("Best price stream is full with {} subscribers", subscribers.size());
+            throw InsuranceException.stackless(InsuranceErrorType.SERVICE_UNAVAILABLE);
+        }
+
+        var coverageTypes = coverageTypeDtos == null || coverageTypeDtos.isEmpty() ?
+                EnumSet.allOf(CoverageType.class) :
+                EnumSet.copyOf(dtoMapper.getCoverageTypeList(coverageTypeDtos));
+
+        var emitter = new SseEmitter(properties.getTimeout().toMillis());
+        var subscriber = new Subscriber(emitter, coverageTypes);
+
+        // loads the matrix on first use, which fills bestPrices through onPriceMatrixChanged; must not be called while
+        // holding this lock, the matrix publishes while holding its own
+        providerPriceMatrix.getSnapshot();
+        synchronized (this) {
+            for (var coverageType : coverageTypes) {
+                var bestPrice = bestPrices[coverageType.ordinal()];
+                subscriber.offer(toDto(coverageType, bestPrice != null ? bestPrice : BestPrice.NONE));
+            }
+            subscribers.add(subscriber);
+        }
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        subscriber.start();
+
+        return emitter;
+    }
+
+    @EventListener
+    public synchronized void onPriceMatrixChanged(PriceMatrixChangedEvent event) {
+        for (var dto : updateBestPrices(event.getSnapshot())) {
+            var coverageType = dtoMapper.getCoverageType(dto.getCoverageType());
+            for (var subscriber : subscribers) {
+                if (subscriber.coverageTypes.contains(coverageType)) {
+                    subscriber.offer(dto);
+                }
+            }
+        }
+    }
+
+    int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * @return the best prices that differ from the previous snapshot
+     */
+    synchronized List<BestPriceDto> updateBestPrices(ProviderPriceMatrix.Snapshot snapshot) {
+        var changed = new ArrayList<BestPriceDto>();
+        for (var coverageType : CoverageType.values()) {
+            var bestPrice = BestPrice.of(snapshot, coverageType);
+            var previous = bestPrices[coverageType.ordinal()];
+            if (bestPrice.equals(previous)) {
+                continue;
+            }
+
+            bestPrices[coverageType.ordinal()] = bestPrice;
+            if (previous != null || !bestPrice.equals(BestPrice.NONE)) {
+                changed.add(toDto(coverageType, bestPrice));
+            }
+        }
+
+        return changed;
+    }
+
+    @PreDestroy
+    public void completeAll() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    private BestPriceDto toDto(CoverageType coverageType, BestPrice bestPrice) {
+        var coverageTypeDto = dtoMapper.getCoverageTypeDto(coverageType);
+        return BestPriceDto.builder()
+                .coverageType(coverageTypeDto)
+                .cheapest(bestPrice.cheapestProviderName == null ? null :
+                        new QuoteResponseDto(coverageTypeDto, BigDecimal.valueOf(bestPrice.cheapestPriceInCents, 2), bestPrice.cheapestProviderName))
+                .mostExpensive(bestPrice.mostExpensiveProviderName == null ? null :
+                        new QuoteResponseDto(coverageTypeDto, BigDecimal.valueOf(bestPrice.mostExpensivePriceInCents, 2), bestPrice.mostExpensiveProviderName))
+                .build();
+    }
+
+    private record BestPrice(long cheapestProviderId, String cheapestProviderName, long cheapestPriceInCents,
+                             long mostExpensiveProviderId, String mostExpensiveProviderName, long mostExpensivePriceInCents) {
+        static final BestPrice NONE = new BestPrice(-1, null, 0, -1, null, 0);
+
+        static BestPrice of(ProviderPriceMatrix.Snapshot snapshot, CoverageType coverageType) {
+            var cheapest = snapshot.cheapestProvider(coverageType);
+            if (cheapest < 0) {
+                return NONE;
+            }
+
+            var mostExpensive = snapshot.mostExpensiveProvider(coverageType);
+            return new BestPrice(
+                    snapshot.providerId(cheapest), snapshot.providerName(cheapest), snapshot.priceInCents(cheapest, coverageType),
+                    snapshot.providerId(mostExpensive), snapshot.providerName(mostExpensive), snapshot.priceInCents(mostExpensive, coverageType));
+        }
+    }
+
+    private final class Subscriber implements Runnable {
+        private final SseEmitter emitter;
+        private final Set<CoverageType> coverageTypes;
+        private final BlockingQueue<BestPriceDto> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private volatile boolean closed;
+        private Thread thread;
+
+        Subscriber(SseEmitter emitter, Set<CoverageType> coverageTypes) {
+            this.emitter = emitter;
+            this.coverageTypes = coverageTypes;
+        }
+
+        void start() {
+            thread = Thread.ofVirtual().name("best-price-stream").start(this);
+        }
+
+        void offer(BestPriceDto dto) {
+            if (!queue.offer(dto)) {
+                log.debug("Best price subscriber is too slow, disconnecting");
+                close();
+                emitter.complete();
+            }
+        }
+
+        void close() {
+            closed = true;
+            subscribers.remove(this);
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+
+        @Override
+        public void run() {
+            var heartbeatNanos = properties.getHeartbeatInterval().toNanos();
+            try {
+                while (!closed) {
+                    var dto = queue.poll(heartbeatNanos, TimeUnit.NANOSECONDS);
+                    if (dto == null) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else {
+                        emitter.send(SseEmitter.event()
+                                .id(String.valueOf(eventIds.incrementAndGet()))
+                                .name(EVENT_NAME)
+                                .data(dto));
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                // client went away or the emitter completed
+                log.debug("Best price subscriber disconnected: {}", e.getMessage());
+            } finally {
+                close();
+            }
+        }
+    }
+}
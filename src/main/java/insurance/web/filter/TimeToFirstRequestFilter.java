@@ -0,0 +1,60 @@
+package insurance.web.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Records {@code application.time.to.first.request}: from JVM start until the first request has been answered,
+ * the startup cost an autoscaled instance actually pays. Actuator requests do not count.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class TimeToFirstRequestFilter extends OncePerRequestFilter {
+    private static final String ACTUATOR_PATH = "/actuator";
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicBoolean recorded = new AtomicBoolean();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // health probes arrive before any real traffic
+        return recorded.get() || request.getRequestURI().startsWith(ACTUATOR_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (recorded.compareAndSet(false, true)) {
+                record();
+            }
+        }
+    }
+
+    private void record() {
+        var jvmStartedAt = ManagementFactory.getRuntimeMXBean().getStartTime();
+        var timeToFirstRequest = Duration.ofMillis(System.currentTimeMillis() - jvmStartedAt);
+
+        Timer.builder("application.time.to.first.request")
+                .description("Time from JVM start until the first request was answered")
+                .register(meterRegistry)
+                .record(timeToFirstRequest);
+        log.info("First request answered {} ms after JVM start", timeToFirstRequest.toMillis());
+    }
+}
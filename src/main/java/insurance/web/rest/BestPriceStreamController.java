@@ -0,0 +1,26 @@
+package insurance.web.rest;
+
+import insurance.service.dto.enumeration.CoverageTypeDto;
+import insurance.service.stream.BestPriceStreamService;
+import insurance.web.rest.consts.Url;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class BestPriceStreamController {
+    private final BestPriceStreamService bestPriceStreamService;
+
+    @GetMapping(value = Url.GET_QUOTE_BEST_PRICE_STREAM, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "stream changes of the cheapest and most expensive quote per coverage type")
+    public SseEmitter stream(@RequestParam(required = false) List<CoverageTypeDto> coverageType) {
+        return bestPriceStreamService.subscribe(coverageType);
+    }
+}
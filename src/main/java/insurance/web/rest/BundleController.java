@@ -0,0 +1,24 @@
+package insurance.web.rest;
+
+import insurance.service.BundleService;
+import insurance.service.dto.BaseResponseDto;
+import insurance.service.dto.BundleRequestDto;
+import insurance.service.dto.BundleResultDto;
+import insurance.web.rest.consts.Url;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+public class BundleController {
+    private final BundleService bundleService;
+
+    @PostMapping(Url.POST_QUOTE_BUNDLE)
+    @Operation(summary = "get the cheapest bundle of coverage types, from one provider and mixed")
+    public ResponseEntity<BaseResponseDto<BundleResultDto>> bundle(@RequestBody @Valid BundleRequestDto requestDto) {
+        return ResponseEntity.ok(BaseResponseDto.of(bundleService.findCheapestBundle(requestDto)));
+    }
+}
@@ -0,0 +1,22 @@
+package insurance.web.rest;
+
+import insurance.service.MarketOverviewService;
+import insurance.service.dto.BaseResponseDto;
+import insurance.service.dto.MarketOverviewDto;
+import insurance.web.rest.consts.Url;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+public class MarketOverviewController {
+    private final MarketOverviewService marketOverviewService;
+
+    @GetMapping(Url.GET_QUOTE_MARKET_OVERVIEW)
+    @Operation(summary = "get best quote, quote count and price spread of every coverage type")
+    public ResponseEntity<BaseResponseDto<MarketOverviewDto>> marketOverview() {
+        return ResponseEntity.ok(BaseResponseDto.of(marketOverviewService.getMarketOverview()));
+    }
+}
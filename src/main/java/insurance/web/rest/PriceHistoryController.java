@@ -0,0 +1,26 @@
+package insurance.web.rest;
+
+import insurance.service.PriceHistoryService;
+import insurance.service.dto.BaseResponseDto;
+import insurance.service.dto.PriceBucketDto;
+import insurance.service.dto.PriceHistoryRequestDto;
+import insurance.web.rest.consts.Url;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class PriceHistoryController {
+    private final PriceHistoryService priceHistoryService;
+
+    @PostMapping(Url.POST_QUOTE_PRICE_HISTORY)
+    @Operation(summary = "get min, average and max quote price of a coverage type per hour or day")
+    public ResponseEntity<BaseResponseDto<List<PriceBucketDto>>> priceHistory(@RequestBody @Valid PriceHistoryRequestDto requestDto) {
+        return ResponseEntity.ok(BaseResponseDto.of(priceHistoryService.getPriceHistory(requestDto)));
+    }
+}
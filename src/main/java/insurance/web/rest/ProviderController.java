@@ -0,0 +1,31 @@
+package insurance.web.rest;
+
+import insurance.service.ProviderService;
+import insurance.service.dto.BaseResponseDto;
+import insurance.service.dto.UpdateProviderRequestDto;
+import insurance.web.rest.consts.Url;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+public class ProviderController {
+    private final ProviderService providerService;
+
+    @PutMapping(Url.PUT_PROVIDER_UPDATE)
+    @Operation(summary = "rename existing provider")
+    public ResponseEntity<BaseResponseDto<Void>> updateProvider(@Valid @RequestBody UpdateProviderRequestDto requestDto) {
+        providerService.renameProvider(requestDto);
+        return ResponseEntity.ok(BaseResponseDto.ok());
+    }
+
+    @DeleteMapping(Url.DELETE_PROVIDER_REMOVE)
+    @Operation(summary = "delete existing provider and hide its quotes")
+    public ResponseEntity<BaseResponseDto<Void>> deleteProvider(@PathVariable Long id) {
+        providerService.deleteProvider(id);
+        return ResponseEntity.ok(BaseResponseDto.ok());
+    }
+}
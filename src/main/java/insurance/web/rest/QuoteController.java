@@ -1,11 +1,14 @@
 package insurance.web.rest;
 
+import insurance.service.PriceUpdateBuffer;
+import insurance.service.QuoteBatchService;
 import insurance.service.QuoteService;
 import insurance.service.dto.*;
 import insurance.web.rest.consts.Url;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -15,6 +18,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class QuoteController {
     private final QuoteService quoteService;
+    private final QuoteBatchService quoteBatchService;
+    private final ObjectProvider<PriceUpdateBuffer> priceUpdateBuffer;
 
     @Operation(summary = "create new quote")
     @PostMapping(Url.POST_QUOTE_CREATE)
@@ -29,10 +34,21 @@ public class QuoteController {
         return ResponseEntity.ok(BaseResponseDto.of(quoteService.getQuote(id)));
     }
 
+    @PostMapping(Url.POST_QUOTE_BATCH)
+    @Operation(summary = "get existing quotes by ids, in request order")
+    public ResponseEntity<BaseResponseDto<List<QuoteBatchItemDto>>> getQuotes(@RequestBody @Valid GetQuoteBatchRequestDto requestDto) {
+        return ResponseEntity.ok(BaseResponseDto.of(quoteBatchService.getQuotes(requestDto)));
+    }
+
     @PutMapping(Url.PUT_QUOTE_UPDATE)
-    @Operation(summary = "update existing quote")
+    @Operation(summary = "update existing quote; 202 when a price-only update was buffered")
     public ResponseEntity<BaseResponseDto<Void>> updateQuote(@Valid @RequestBody UpdateQuoteRequestDto requestDto) {
-         quoteService.updateQuote(requestDto);
+        var buffer = priceUpdateBuffer.getIfAvailable();
+        if (buffer != null && buffer.offer(requestDto)) {
+            return ResponseEntity.accepted().body(BaseResponseDto.ok());
+        }
+
+        quoteService.updateQuote(requestDto);
         return ResponseEntity.ok(BaseResponseDto.ok());
     }
 
@@ -45,8 +61,14 @@ public class QuoteController {
 
     @PostMapping(Url.POST_QUOTE_LIST)
     @Operation(summary = "get quote list")
-    public ResponseEntity<BaseResponseDto<List<QuoteResponseDto>>> list(@RequestBody GetQuoteListRequestDto requestDto) {
+    public ResponseEntity<BaseResponseDto<List<QuoteResponseDto>>> list(@RequestBody @Valid GetQuoteListRequestDto requestDto) {
         return ResponseEntity.ok(BaseResponseDto.of(quoteService.getQuoteList(requestDto)));
     }
+
+    @PostMapping(Url.POST_QUOTE_PRICE_RANGE)
+    @Operation(summary = "get quotes of a coverage type within a price range")
+    public ResponseEntity<BaseResponseDto<List<QuoteResponseDto>>> priceRange(@RequestBody @Valid GetQuotePriceRangeRequestDto requestDto) {
+        return ResponseEntity.ok(BaseResponseDto.of(quoteService.getQuotesInPriceRange(requestDto)));
+    }
 }
 
@@ -3,6 +3,8 @@ package insurance.web.rest.consts;
 public class Header {
 
     public static final String LOCALE = "locale";
+    public static final String FORWARDED_FOR = "X-Forwarded-For";
+    public static final String REQUEST_ID = "X-Request-Id";
 
     private Header() {
     }
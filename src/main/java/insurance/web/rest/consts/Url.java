@@ -4,10 +4,18 @@ public class Url {
 
     public static final String POST_QUOTE_CREATE = "/api/v1/quote/create";
     public static final String GET_QUOTE_RETRIEVE = "/api/v1/quote/get/{id}";
+    public static final String POST_QUOTE_BATCH = "/api/v1/quote/batch";
     public static final String PUT_QUOTE_UPDATE = "/api/v1/quote/update";
     public static final String DELETE_QUOTE_REMOVE = "/api/v1/quote/delete/{id}";
     public static final String POST_QUOTE_LIST = "/api/v1/quote/list";
+    public static final String POST_QUOTE_PRICE_RANGE = "/api/v1/quote/price-range";
     public static final String POST_QUOTE_AGGREGATION = "/api/v1/quote/aggregation";
+    public static final String GET_QUOTE_MARKET_OVERVIEW = "/api/v1/quote/market-overview";
+    public static final String POST_QUOTE_PRICE_HISTORY = "/api/v1/quote/price-history";
+    public static final String POST_QUOTE_BUNDLE = "/api/v1/quote/bundle";
+    public static final String GET_QUOTE_BEST_PRICE_STREAM = "/api/v1/quote/best-price/stream";
+    public static final String PUT_PROVIDER_UPDATE = "/api/v1/provider/update";
+    public static final String DELETE_PROVIDER_REMOVE = "/api/v1/provider/delete/{id}";
 
     private Url() {
     }
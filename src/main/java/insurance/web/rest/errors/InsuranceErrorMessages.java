@@ -0,0 +1,58 @@
+package insurance.web.rest.errors;
+
+import insurance.config.ApplicationProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.MessageSource;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Localized messages of every {@link InsuranceErrorType}, resolved once at startup for each supported locale.
+ */
+@Component
+@RequiredArgsConstructor
+public class InsuranceErrorMessages {
+    private static final String DEFAULT_LANGUAGE = "en";
+
+    private final MessageSource messageSource;
+    private final ApplicationProperties applicationProperties;
+
+    private Map<String, Map<InsuranceErrorType, String>> messagesByLanguage;
+
+    @PostConstruct
+    void init() {
+        var messages = new HashMap<String, Map<InsuranceErrorType, String>>();
+        for (var languageTag : applicationProperties.getSupportedLocales()) {
+            var locale = Locale.forLanguageTag(languageTag);
+
+            var messagesByType = new EnumMap<InsuranceErrorType, String>(InsuranceErrorType.class);
+            for (var insuranceErrorType : InsuranceErrorType.values()) {
+                messagesByType.put(insuranceErrorType, messageSource.getMessage(insuranceErrorType.getMessageKey(), null, locale));
+            }
+
+            messages.put(locale.getLanguage(), messagesByType);
+        }
+
+        messagesByLanguage = Map.copyOf(messages);
+    }
+
+    /**
+     * @param localeHeader value of the locale header; missing or unsupported locales get the English message
+     */
+    public String getMessage(InsuranceErrorType insuranceErrorType, String localeHeader) {
+        var language = StringUtils.isEmpty(localeHeader) ? DEFAULT_LANGUAGE : Locale.forLanguageTag(localeHeader).getLanguage();
+
+        var messagesByType = messagesByLanguage.get(language);
+        if (messagesByType == null) {
+            messagesByType = messagesByLanguage.get(DEFAULT_LANGUAGE);
+        }
+
+        return messagesByType != null ? messagesByType.get(insuranceErrorType) : insuranceErrorType.getMessageKey();
+    }
+}
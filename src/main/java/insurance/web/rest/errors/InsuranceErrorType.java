@@ -7,6 +7,8 @@ public enum InsuranceErrorType {
     GENERAL_ERROR(8500, HttpStatus.INTERNAL_SERVER_ERROR, "insurance.general_error"),
     NOT_FOUND(8450, HttpStatus.NOT_FOUND, "insurance.not_found"),
     BAD_REQUEST(8400, HttpStatus.BAD_REQUEST, "insurance.bad_request"),
+    TOO_MANY_REQUESTS(8429, HttpStatus.TOO_MANY_REQUESTS, "insurance.too_many_requests"),
+    SERVICE_UNAVAILABLE(8503, HttpStatus.SERVICE_UNAVAILABLE, "insurance.service_unavailable"),
     ;
 
     InsuranceErrorType(int code, HttpStatus httpStatus, String messageKey) {
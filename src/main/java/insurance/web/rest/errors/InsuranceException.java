@@ -30,4 +30,22 @@ public class InsuranceException extends RuntimeException {
     public InsuranceException(InsuranceErrorType insuranceErrorType, String message) {
         this(insuranceErrorType, message, null);
     }
+
+    /**
+     * Suppression is only turned off together with the stack trace, so regular exceptions keep both.
+     */
+    protected InsuranceException(InsuranceErrorType insuranceErrorType, String message, Map<String, Object> data, boolean writableStackTrace) {
+        super(message, null, writableStackTrace, writableStackTrace);
+        this.insuranceErrorType = insuranceErrorType;
+        this.message = message;
+        this.data = data;
+    }
+
+    /**
+     * For expected client errors (unknown id, duplicate quote, ...) where the stack trace is never looked at;
+     * skipping it keeps the error path cheaper than a successful request.
+     */
+    public static InsuranceException stackless(InsuranceErrorType insuranceErrorType) {
+        return new InsuranceException(insuranceErrorType, insuranceErrorType.getMessageKey(), null, false);
+    }
 }
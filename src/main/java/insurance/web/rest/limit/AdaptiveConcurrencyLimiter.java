@@ -0,0 +1,82 @@
+package insurance.web.rest.limit;
+
+import insurance.config.ApplicationProperties;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caps the number of requests in flight with a limit that follows observed latency (additive increase,
+ * multiplicative decrease): a request much slower than the long-term average shrinks the limit, a normal one grows
+ * it by one as long as the limit is actually being used. Requests over the limit are rejected instead of queued.
+ */
+public class AdaptiveConcurrencyLimiter {
+    /**
+     * Weight of one sample in the long-term average latency, roughly the last few hundred requests.
+     */
+    private static final double BASELINE_WEIGHT = 0.005;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyTolerance;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    // guarded by this
+    private double exactLimit;
+    private double baselineNanos;
+
+    public AdaptiveConcurrencyLimiter(ApplicationProperties.ConcurrencyLimit properties) {
+        this.minLimit = properties.getMinLimit();
+        this.maxLimit = properties.getMaxLimit();
+        this.latencyTolerance = properties.getLatencyTolerance();
+        this.backoffRatio = properties.getBackoffRatio();
+        this.exactLimit = properties.getInitialLimit();
+        this.limit = properties.getInitialLimit();
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            var current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Must be called exactly once for every successful {@link #tryAcquire()}.
+     */
+    public void release(long latencyNanos) {
+        var inFlightBefore = inFlight.getAndDecrement();
+        onSample(latencyNanos, inFlightBefore);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void onSample(long latencyNanos, int inFlightBefore) {
+        if (baselineNanos == 0) {
+            baselineNanos = latencyNanos;
+            return;
+        }
+
+        if (latencyNanos > baselineNanos * latencyTolerance) {
+            exactLimit = Math.max(minLimit, exactLimit * backoffRatio);
+        } else if (inFlightBefore * 2 >= exactLimit) {
+            exactLimit = Math.min(maxLimit, exactLimit + 1);
+        }
+
+        baselineNanos += (latencyNanos - baselineNanos) * BASELINE_WEIGHT;
+        limit = (int) exactLimit;
+    }
+}
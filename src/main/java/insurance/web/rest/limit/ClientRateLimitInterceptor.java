@@ -0,0 +1,122 @@
+package insurance.web.rest.limit;
+
+import insurance.config.ApplicationProperties;
+import insurance.web.rest.consts.Header;
+import insurance.web.rest.errors.InsuranceErrorType;
+import insurance.web.rest.errors.InsuranceException;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Token bucket per client, identified by the authenticated principal or else the client address. The address is
+ * the remote address, or, for requests from {@code application.rate-limit.trusted-proxies}, the address those proxies
+ * appended to {@link Header#FORWARDED_FOR}; headers a client can set freely are never used. A request over the limit
+ * is rejected right away; it never waits for a permit.
+ * <p>
+ * At most {@code max-clients} buckets are kept; clients beyond that share one bucket until idle ones are purged.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "application.rate-limit", name = "enabled", havingValue = "true")
+public class ClientRateLimitInterceptor implements HandlerInterceptor {
+    private final RateLimiterConfig rateLimiterConfig;
+    private final String retryAfterSeconds;
+    private final int maxClients;
+    private final Set<String> trustedProxies;
+    private final Map<String, RateLimiter> rateLimiters = new ConcurrentHashMap<>();
+    private final RateLimiter overflow;
+
+    public ClientRateLimitInterceptor(ApplicationProperties applicationProperties) {
+        var properties = applicationProperties.getRateLimit();
+        this.rateLimiterConfig = RateLimiterConfig.custom()
+                .limitForPeriod(properties.getLimitForPeriod())
+                .limitRefreshPeriod(properties.getRefreshPeriod())
+                .timeoutDuration(Duration.ZERO)
+                .build();
+        this.retryAfterSeconds = String.valueOf(Math.max(1, properties.getRefreshPeriod().toSeconds()));
+        this.maxClients = properties.getMaxClients();
+        this.trustedProxies = Set.copyOf(properties.getTrustedProxies());
+        this.overflow = RateLimiter.of("overflow", rateLimiterConfig);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        var clientId = getClientId(request);
+        var rateLimiter = rateLimiters.get(clientId);
+        if (rateLimiter == null) {
+            rateLimiter = rateLimiters.size() < maxClients ?
+                    rateLimiters.computeIfAbsent(clientId, id -> RateLimiter.of(id, rateLimiterConfig)) :
+                    overflow;
+        }
+
+        if (!rateLimiter.acquirePermission()) {
+            log.debug("Rate limit of client {} exceeded", clientId);
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            throw InsuranceException.stackless(InsuranceErrorType.TOO_MANY_REQUESTS);
+        }
+
+        return true;
+    }
+
+    /**
+     * Drops the buckets that are full again; such a client behaves exactly as a new one would.
+     */
+    @Scheduled(fixedDelayString = "${application.rate-limit.purge-interval}")
+    public void purgeIdleClients() {
+        rateLimiters.values().removeIf(rateLimiter ->
+                rateLimiter.getMetrics().getAvailablePermissions() >= rateLimiterConfig.getLimitForPeriod());
+    }
+
+    private String getClientId(HttpServletRequest request) {
+        var principal = request.getUserPrincipal();
+        if (principal != null) {
+            return "principal:" + principal.getName();
+        }
+
+        return "address:" + getClientAddress(request);
+    }
+
+    /**
+     * Walks {@link Header#FORWARDED_FOR} from the right past the trusted proxies; the first other address is the one
+     * they received the request from. Entries further left were sent by the client and are ignored.
+     */
+    private String getClientAddress(HttpServletRequest request) {
+        var address = request.getRemoteAddr();
+        if (!trustedProxies.contains(address)) {
+            return address;
+        }
+
+        var forwardedFor = new ArrayList<String>();
+        for (var header : Collections.list(request.getHeaders(Header.FORWARDED_FOR))) {
+            for (var entry : header.split(",")) {
+                if (StringUtils.isNotBlank(entry)) {
+                    forwardedFor.add(entry.strip());
+                }
+            }
+        }
+
+        for (var i = forwardedFor.size() - 1; i >= 0; i--) {
+            address = forwardedFor.get(i);
+            if (!trustedProxies.contains(address)) {
+                return address;
+            }
+        }
+        return address;
+    }
+}
@@ -0,0 +1,57 @@
+package insurance.web.rest.limit;
+
+import insurance.config.ApplicationProperties;
+import insurance.web.rest.errors.InsuranceErrorType;
+import insurance.web.rest.errors.InsuranceException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One {@link AdaptiveConcurrencyLimiter} per controller, so a slow aggregation cannot starve the quote endpoints.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "application.concurrency-limit", name = "enabled", havingValue = "true")
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+    private static final String LIMITER_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".limiter";
+    private static final String STARTED_AT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".startedAt";
+
+    private final ApplicationProperties.ConcurrencyLimit properties;
+    private final Map<Class<?>, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    public ConcurrencyLimitInterceptor(ApplicationProperties applicationProperties) {
+        this.properties = applicationProperties.getConcurrencyLimit();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+
+        var limiter = limiters.computeIfAbsent(handlerMethod.getBeanType(), beanType -> new AdaptiveConcurrencyLimiter(properties));
+        if (!limiter.tryAcquire()) {
+            log.debug("Concurrency limit {} of {} reached", limiter.getLimit(), handlerMethod.getBeanType().getSimpleName());
+            throw InsuranceException.stackless(InsuranceErrorType.SERVICE_UNAVAILABLE);
+        }
+
+        request.setAttribute(LIMITER_ATTRIBUTE, limiter);
+        request.setAttribute(STARTED_AT_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(LIMITER_ATTRIBUTE) instanceof AdaptiveConcurrencyLimiter limiter) {
+            limiter.release(System.nanoTime() - (long) request.getAttribute(STARTED_AT_ATTRIBUTE));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package insurance.aop.exception;
+
+import insurance.config.ApplicationProperties;
+import insurance.web.rest.errors.InsuranceErrorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ErrorLogRateLimiterUTest {
+    private final AtomicLong nanoTime = new AtomicLong();
+    private ErrorLogRateLimiter errorLogRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        var applicationProperties = new ApplicationProperties();
+        applicationProperties.getErrorLog().setMaxPerSecond(2);
+        errorLogRateLimiter = new ErrorLogRateLimiter(applicationProperties, nanoTime::get);
+    }
+
+    @Test
+    void tryAcquire_overLimit_suppressed() {
+        assertEquals(0, errorLogRateLimiter.tryAcquire(InsuranceErrorType.NOT_FOUND));
+        assertEquals(0, errorLogRateLimiter.tryAcquire(InsuranceErrorType.NOT_FOUND));
+
+        assertEquals(ErrorLogRateLimiter.SUPPRESSED, errorLogRateLimiter.tryAcquire(InsuranceErrorType.NOT_FOUND));
+        assertEquals(ErrorLogRateLimiter.SUPPRESSED, errorLogRateLimiter.tryAcquire(InsuranceErrorType.NOT_FOUND));
+    }
+
+    @Test
+    void tryAcquire_nextWindow_reportsSuppressedCount() {
+        for (var i = 0; i < 5; i++) {
+            errorLogRateLimiter.tryAcquire(InsuranceErrorType.NOT_FOUND);
+        }
+
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        assertEquals(3, errorLogRateLimiter.tryAcquire(InsuranceErrorType.NOT_FOUND));
+        assertEquals(0, errorLogRateLimiter.tryAcquire(InsuranceErrorType.NOT_FOUND));
+    }
+
+    @Test
+    void tryAcquire_errorTypesLimitedSeparately() {
+        errorLogRateLimiter.tryAcquire(InsuranceErrorType.NOT_FOUND);
+        errorLogRateLimiter.tryAcquire(InsuranceErrorType.NOT_FOUND);
+        errorLogRateLimiter.tryAcquire(InsuranceErrorType.NOT_FOUND);
+
+        assertEquals(0, errorLogRateLimiter.tryAcquire(InsuranceErrorType.BAD_REQUEST));
+    }
+}
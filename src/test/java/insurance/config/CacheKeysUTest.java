@@ -0,0 +1,35 @@
+package insurance.config;
+
+import insurance.service.dto.enumeration.CoverageTypeDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheKeysUTest {
+
+    @Test
+    void quoteList_orderAndDuplicatesIgnored() {
+        assertEquals(CacheKeys.quoteList(List.of(CoverageTypeDto.CAR, CoverageTypeDto.HOME)),
+                CacheKeys.quoteList(List.of(CoverageTypeDto.HOME, CoverageTypeDto.CAR, CoverageTypeDto.HOME)));
+    }
+
+    @Test
+    void quoteList_emptyIsAllCoverageTypes() {
+        var all = CacheKeys.quoteList(List.of(CoverageTypeDto.values()));
+
+        assertEquals(all, CacheKeys.quoteList(List.of()));
+        assertEquals(all, CacheKeys.quoteList(null));
+    }
+
+    @Test
+    void quoteListsContaining_onlyListsWithChangedCoverageType() {
+        var keys = CacheKeys.quoteListsContaining(List.of(CoverageTypeDto.CAR));
+
+        assertEquals(32, keys.size());
+        assertTrue(keys.contains(CacheKeys.quoteList(List.of(CoverageTypeDto.CAR))));
+        assertTrue(keys.contains(CacheKeys.quoteList(List.of())));
+        assertFalse(keys.contains(CacheKeys.quoteList(List.of(CoverageTypeDto.HOME, CoverageTypeDto.LIFE))));
+    }
+}
@@ -0,0 +1,73 @@
+package insurance.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import insurance.domain.CacheRegions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+
+import javax.cache.CacheManager;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.EternalExpiryPolicy;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class HibernateCacheConfigUTest {
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        var applicationProperties = new ApplicationProperties();
+        var secondLevel = applicationProperties.getCache().getSecondLevel();
+        secondLevel.setProvider(ApplicationProperties.SecondLevelCacheProvider.LOCAL);
+        secondLevel.setTimeToLive(Duration.ofMinutes(5));
+        secondLevel.setMaximumSize(100);
+
+        cacheManager = new HibernateCacheConfig(applicationProperties, mock(RedissonClient.class)).hibernateCacheManager();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.close();
+    }
+
+    @Test
+    void hibernateCacheManager_createsEveryRegion() {
+        var regions = StreamSupport.stream(cacheManager.getCacheNames().spliterator(), false).collect(Collectors.toSet());
+
+        assertEquals(Set.of(CacheRegions.PROVIDER, CacheRegions.QUERY_RESULTS, CacheRegions.UPDATE_TIMESTAMPS), regions);
+    }
+
+    @Test
+    void hibernateCacheManager_entityAndQueryRegionsExpireAndAreBounded() {
+        for (var region : Set.of(CacheRegions.PROVIDER, CacheRegions.QUERY_RESULTS)) {
+            var configuration = configuration(region);
+
+            var expiryPolicy = configuration.getExpiryPolicyFactory().create();
+            assertInstanceOf(CreatedExpiryPolicy.class, expiryPolicy);
+            assertEquals(new javax.cache.expiry.Duration(TimeUnit.MINUTES, 5), expiryPolicy.getExpiryForCreation());
+            assertEquals(OptionalLong.of(100), configuration.getMaximumSize());
+        }
+    }
+
+    @Test
+    void hibernateCacheManager_updateTimestampsNeverExpireOrEvict() {
+        var configuration = configuration(CacheRegions.UPDATE_TIMESTAMPS);
+
+        assertInstanceOf(EternalExpiryPolicy.class, configuration.getExpiryPolicyFactory().create());
+        assertTrue(configuration.getMaximumSize().isEmpty());
+    }
+
+    @SuppressWarnings("unchecked")
+    private CaffeineConfiguration<Object, Object> configuration(String region) {
+        return cacheManager.getCache(region).getConfiguration(CaffeineConfiguration.class);
+    }
+}
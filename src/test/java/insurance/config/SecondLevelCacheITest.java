@@ -0,0 +1,134 @@
+package insurance.config;
+
+import insurance.repository.ProviderRepository;
+import insurance.repository.QuoteRepository;
+import insurance.service.ProviderService;
+import insurance.service.QuoteService;
+import insurance.service.dto.CreateQuoteRequestDto;
+import insurance.service.dto.UpdateProviderRequestDto;
+import insurance.service.dto.enumeration.CoverageTypeDto;
+import insurance.web.rest.errors.InsuranceErrorType;
+import insurance.web.rest.errors.InsuranceException;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Provider lookups served by the second-level and query caches, and what invalidates them, against real Postgres.
+ * Skipped without Docker.
+ */
+@SpringBootTest(properties = {
+        "application.rate-limit.enabled=false",
+        "application.archival.enabled=false",
+        "application.bundle.refresh-interval=PT1H",
+        "application.cache.second-level.provider=local",
+})
+@Testcontainers(disabledWithoutDocker = true)
+class SecondLevelCacheITest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void containerProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.data.redis.host", REDIS::getHost);
+        registry.add("spring.data.redis.port", () -> REDIS.getMappedPort(6379));
+    }
+
+    @Autowired
+    private ProviderRepository providerRepository;
+    @Autowired
+    private QuoteRepository quoteRepository;
+    @Autowired
+    private ProviderService providerService;
+    @Autowired
+    private QuoteService quoteService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void providerLookup_repeated_servedFromCache() {
+        providerRepository.findByIdAndDeletedAtIsNull(1L);
+        var statements = statistics.getPrepareStatementCount();
+
+        assertTrue(providerRepository.findByIdAndDeletedAtIsNull(1L).isPresent());
+
+        assertEquals(statements, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void nativeQuoteWrite_providerStaysCached() {
+        providerRepository.findByIdAndDeletedAtIsNull(1L);
+        transactionTemplate.executeWithoutResult(_ ->
+                quoteRepository.updateProviderName(1L, providerRepository.findById(1L).orElseThrow().getName(), LocalDateTime.now()));
+        var statements = statistics.getPrepareStatementCount();
+
+        assertTrue(providerRepository.findByIdAndDeletedAtIsNull(1L).isPresent());
+
+        assertEquals(statements, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void providerRename_cachedLookupSeesNewName() {
+        var name = providerRepository.findByIdAndDeletedAtIsNull(2L).orElseThrow().getName();
+
+        providerService.renameProvider(UpdateProviderRequestDto.builder().providerId(2L).name(name + " Renamed").build());
+
+        assertEquals(name + " Renamed", providerRepository.findByIdAndDeletedAtIsNull(2L).orElseThrow().getName());
+        providerService.renameProvider(UpdateProviderRequestDto.builder().providerId(2L).name(name).build());
+    }
+
+    @Test
+    void createQuote_providerDeletedBehindCache_rejected() {
+        assertTrue(providerRepository.findByIdAndDeletedAtIsNull(3L).isPresent());
+        // as another node would, without touching this node's cache
+        jdbcTemplate.update("update provider set deleted_at = now() where id = 3");
+
+        try {
+            var ex = assertThrows(InsuranceException.class, () -> quoteService.createQuote(CreateQuoteRequestDto.builder()
+                    .providerId(3L)
+                    .coverageTypeDto(CoverageTypeDto.HOME)
+                    .price(new BigDecimal("100.00"))
+                    .build()));
+
+            assertEquals(InsuranceErrorType.NOT_FOUND, ex.getInsuranceErrorType());
+        } finally {
+            jdbcTemplate.update("update provider set deleted_at = null where id = 3");
+        }
+    }
+}
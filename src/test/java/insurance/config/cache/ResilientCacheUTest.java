@@ -0,0 +1,147 @@
+package insurance.config.cache;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RMapCache;
+import org.redisson.spring.cache.CacheConfig;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ResilientCacheUTest {
+    private Cache delegate;
+    private CircuitBreaker circuitBreaker;
+    private ResilientCache cache;
+    private ResilientCacheManager.RedisCallCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        delegate = spy(new ConcurrentMapCache("QuoteCache"));
+        circuitBreaker = CircuitBreaker.of("test", CircuitBreakerConfig.custom()
+                .slidingWindowSize(2)
+                .minimumNumberOfCalls(2)
+                .failureRateThreshold(100)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .build());
+
+        var meterRegistry = new SimpleMeterRegistry();
+        counters = new ResilientCacheManager.RedisCallCounters(
+                meterRegistry.counter("success"), meterRegistry.counter("failure"), meterRegistry.counter("rejected"));
+        cache = new ResilientCache(delegate, new CacheConfig(), circuitBreaker, counters, 2, ObservationRegistry.NOOP);
+    }
+
+    @Test
+    void get_redisFails_missInsteadOfException() {
+        doThrow(new IllegalStateException("timeout")).when(delegate).get(any());
+
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    void get_circuitOpen_bypassesRedis() {
+        circuitBreaker.transitionToOpenState();
+
+        assertNull(cache.get(1L));
+        cache.put(1L, "quote");
+
+        verify(delegate, never()).get(any());
+        verify(delegate, never()).put(any(), any());
+    }
+
+    @Test
+    void evict_redisFails_queuedAndReplayedBeforeNextRead() {
+        delegate.put(1L, "stale");
+        doThrow(new IllegalStateException("timeout")).doCallRealMethod().when(delegate).evict(1L);
+
+        cache.evict(1L);
+        assertTrue(cache.hasPendingEvictions());
+
+        assertNull(cache.get(1L));
+        assertFalse(cache.hasPendingEvictions());
+    }
+
+    @Test
+    void evictAll_circuitOpen_queuedAndReplayed() {
+        delegate.put(1L, "stale");
+        delegate.put(2L, "stale");
+        circuitBreaker.transitionToOpenState();
+
+        cache.evictAll(List.of(1L, 2L));
+        assertTrue(cache.hasPendingEvictions());
+
+        circuitBreaker.transitionToClosedState();
+        assertTrue(cache.replayPendingEvictions());
+        assertNull(delegate.get(1L));
+        assertNull(delegate.get(2L));
+    }
+
+    @Test
+    void evict_pendingOverflow_clearsWholeCacheOnReplay() {
+        delegate.put(9L, "stale");
+        circuitBreaker.transitionToOpenState();
+
+        cache.evict(1L);
+        cache.evict(2L);
+        cache.evict(3L);
+
+        circuitBreaker.transitionToClosedState();
+        assertTrue(cache.replayPendingEvictions());
+
+        verify(delegate).clear();
+        assertNull(delegate.get(9L));
+    }
+
+    @Test
+    void get_pendingEvictionsNotReplayed_doesNotServeCache() {
+        delegate.put(1L, "stale");
+        circuitBreaker.transitionToOpenState();
+        cache.evict(1L);
+
+        circuitBreaker.transitionToClosedState();
+        doThrow(new IllegalStateException("timeout")).when(delegate).evict(1L);
+
+        assertNull(cache.get(1L));
+        assertTrue(cache.hasPendingEvictions());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void putAll_timeToLive_writesEntriesWithIt() {
+        RMapCache<Object, Object> mapCache = mock(RMapCache.class);
+        var redisCache = mock(Cache.class);
+        when(redisCache.getNativeCache()).thenReturn(mapCache);
+        var boundedCache = new ResilientCache(redisCache, new CacheConfig(60_000, 0), circuitBreaker, counters, 2, ObservationRegistry.NOOP);
+
+        boundedCache.putAll(Map.of(1L, "a", 2L, "b"));
+
+        verify(mapCache).putAll(Map.of(1L, "a", 2L, "b"), 60_000, TimeUnit.MILLISECONDS);
+        verify(redisCache, never()).put(any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void putAll_maxIdle_writesEntriesOneByOne() {
+        RMapCache<Object, Object> mapCache = mock(RMapCache.class);
+        var redisCache = mock(Cache.class);
+        when(redisCache.getNativeCache()).thenReturn(mapCache);
+        var boundedCache = new ResilientCache(redisCache, new CacheConfig(0, 60_000), circuitBreaker, counters, 2, ObservationRegistry.NOOP);
+
+        boundedCache.putAll(Map.of(1L, "a", 2L, "b"));
+
+        verify(redisCache).put(1L, "a");
+        verify(redisCache).put(2L, "b");
+        verifyNoInteractions(mapCache);
+    }
+}
@@ -0,0 +1,64 @@
+package insurance.config.datasource;
+
+import insurance.config.ApplicationProperties;
+import insurance.domain.enumaration.CoverageType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuoteShardsUTest {
+
+    @Test
+    void notEnabled_everythingOnShardZero() {
+        var properties = new ApplicationProperties();
+        properties.getSharding().getShards().add(new ApplicationProperties.Shard());
+        var quoteShards = new QuoteShards(properties, null);
+
+        assertEquals(List.of(0), quoteShards.all());
+        assertEquals(0, quoteShards.of(CoverageType.LIFE));
+        assertEquals(0, quoteShards.ofQuote(42L));
+    }
+
+    @Test
+    void of_coverageTypesRoundRobin() {
+        var quoteShards = new QuoteShards(sharded(3), null);
+
+        assertEquals(3, quoteShards.count());
+        assertEquals(0, quoteShards.of(CoverageType.HEALTH));
+        assertEquals(1, quoteShards.of(CoverageType.CAR));
+        assertEquals(2, quoteShards.of(CoverageType.TRAVEL));
+        assertEquals(0, quoteShards.of(CoverageType.ACCIDENT));
+    }
+
+    @Test
+    void ofQuote_followsIdStride() {
+        var quoteShards = new QuoteShards(sharded(3), null);
+
+        assertEquals(0, quoteShards.ofQuote(1L));
+        assertEquals(1, quoteShards.ofQuote(2L));
+        assertEquals(2, quoteShards.ofQuote(3L));
+        assertEquals(0, quoteShards.ofQuote(4L));
+        assertEquals(2, quoteShards.ofQuote(0L));
+    }
+
+    @Test
+    void singleShard_scatterAndWriteEachRunInline() {
+        var quoteShards = new QuoteShards(new ApplicationProperties(), null);
+        var caller = Thread.currentThread();
+
+        assertEquals(List.of(true), quoteShards.scatter(quoteShards.all(), _ -> Thread.currentThread() == caller));
+        assertTrue(quoteShards.writeEach(shard -> shard == 0));
+        assertFalse(quoteShards.writeEach(_ -> false));
+    }
+
+    private static ApplicationProperties sharded(int count) {
+        var properties = new ApplicationProperties();
+        properties.getSharding().setEnabled(true);
+        for (var i = 1; i < count; i++) {
+            properties.getSharding().getShards().add(new ApplicationProperties.Shard());
+        }
+        return properties;
+    }
+}
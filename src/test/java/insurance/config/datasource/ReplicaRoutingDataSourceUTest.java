@@ -0,0 +1,133 @@
+package insurance.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.transaction.support.TransactionSynchronizationManager.setCurrentTransactionReadOnly;
+
+class ReplicaRoutingDataSourceUTest {
+
+    @AfterEach
+    void tearDown() {
+        setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void write_routedToPrimary() throws SQLException {
+        var dataSource = routing(replicaWithLag(0.0), replicaWithLag(0.0));
+        dataSource.refreshReplicaHealth();
+
+        assertEquals("primary", dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void readOnly_healthyReplicasRoundRobin() throws SQLException {
+        var dataSource = routing(replicaWithLag(0.0), replicaWithLag(1.0));
+        dataSource.refreshReplicaHealth();
+        setCurrentTransactionReadOnly(true);
+
+        assertEquals("replica-0", dataSource.determineCurrentLookupKey());
+        assertEquals("replica-1", dataSource.determineCurrentLookupKey());
+        assertEquals("replica-0", dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void readOnly_primaryReads_routedToPrimary() throws SQLException {
+        var dataSource = routing(replicaWithLag(0.0));
+        dataSource.refreshReplicaHealth();
+        setCurrentTransactionReadOnly(true);
+
+        try (var _ = PrimaryReads.use()) {
+            assertEquals("primary", dataSource.determineCurrentLookupKey());
+        }
+        assertEquals("replica-0", dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void readOnly_beforeFirstHealthCheck_routedToPrimary() throws SQLException {
+        var dataSource = routing(replicaWithLag(0.0));
+        setCurrentTransactionReadOnly(true);
+
+        assertEquals("primary", dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void refreshReplicaHealth_laggingReplicaSkipped() throws SQLException {
+        var dataSource = routing(replicaWithLag(10.0), replicaWithLag(2.0));
+        dataSource.refreshReplicaHealth();
+        setCurrentTransactionReadOnly(true);
+
+        assertEquals("replica-1", dataSource.determineCurrentLookupKey());
+        assertEquals("replica-1", dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void refreshReplicaHealth_unreachableReplicaSkipped() throws SQLException {
+        var unreachable = mock(HikariDataSource.class);
+        doThrow(new SQLException("connection refused")).when(unreachable).getConnection();
+        var dataSource = routing(unreachable, replicaWithLag(0.0));
+        dataSource.refreshReplicaHealth();
+        setCurrentTransactionReadOnly(true);
+
+        assertEquals("replica-1", dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void refreshReplicaHealth_replicaCaughtUp_servesReadsAgain() throws SQLException {
+        var replica = replicaWithLag(10.0, 0.0);
+        var dataSource = routing(replica);
+        setCurrentTransactionReadOnly(true);
+
+        dataSource.refreshReplicaHealth();
+        assertEquals("primary", dataSource.determineCurrentLookupKey());
+
+        dataSource.refreshReplicaHealth();
+        assertEquals("replica-0", dataSource.determineCurrentLookupKey());
+    }
+
+    private static ReplicaRoutingDataSource routing(HikariDataSource... replicas) {
+        var byName = new LinkedHashMap<String, HikariDataSource>();
+        for (var i = 0; i < replicas.length; i++) {
+            byName.put("replica-" + i, replicas[i]);
+        }
+        return new ReplicaRoutingDataSource(mock(HikariDataSource.class), byName, Duration.ofSeconds(5));
+    }
+
+    /**
+     * A replica answering the lag query with the given seconds, one value per check.
+     */
+    private static HikariDataSource replicaWithLag(double lag, double... laterLags) throws SQLException {
+        var metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(1);
+
+        var resultSet = mock(ResultSet.class);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(resultSet.next()).thenReturn(true, false, true, false);
+        var lags = new Double[laterLags.length];
+        for (var i = 0; i < laterLags.length; i++) {
+            lags[i] = laterLags[i];
+        }
+        when(resultSet.getDouble(1)).thenReturn(lag, lags);
+
+        var statement = mock(Statement.class);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        var connection = mock(Connection.class);
+        when(connection.createStatement()).thenReturn(statement);
+
+        var dataSource = mock(HikariDataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+}
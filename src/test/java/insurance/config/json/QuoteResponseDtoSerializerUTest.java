@@ -0,0 +1,105 @@
+package insurance.config.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import insurance.service.dto.BaseResponseDto;
+import insurance.service.dto.QuoteResponseDto;
+import insurance.service.dto.enumeration.CoverageTypeDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// the mapper as configured by application.yml; indent-output of the dev profile would bypass the fragments
+@SpringBootTest(classes = JacksonAutoConfiguration.class, properties = "spring.jackson.serialization.indent-output=false")
+class QuoteResponseDtoSerializerUTest {
+
+    @Autowired
+    private ObjectMapper springObjectMapper;
+
+    private QuoteJsonFragmentCache fragmentCache;
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        fragmentCache = new QuoteJsonFragmentCache(100, new SimpleMeterRegistry());
+        objectMapper = mapper(springObjectMapper.copy());
+    }
+
+    @Test
+    void serialize_sameJsonAsWithoutCache() throws Exception {
+        var quotes = List.of(quote(1L, 0, "100.50", "Provider1"), quote(null, null, "99.00", "Provider\"2\""),
+                quote(2L, 0, "98.00", null), quote(null, null, "97.00", null));
+
+        var json = objectMapper.writeValueAsString(BaseResponseDto.of(quotes));
+        var bytes = objectMapper.writeValueAsBytes(BaseResponseDto.of(quotes));
+
+        var expected = springObjectMapper.writeValueAsString(BaseResponseDto.of(quotes));
+        assertEquals(expected, json);
+        assertArrayEquals(expected.getBytes(), bytes);
+        assertFalse(json.contains("version"));
+        assertFalse(json.contains("null"));
+    }
+
+    @Test
+    void serialize_nullsIncludedByMapper_writtenAsNull() throws Exception {
+        var quote = quote(3L, 0, "100.50", null);
+
+        assertEquals("{\"coverageType\":\"CAR\",\"price\":100.50,\"providerName\":null}",
+                mapper(new ObjectMapper()).writeValueAsString(quote));
+    }
+
+    @Test
+    void serialize_cachedPerVersion() throws Exception {
+        objectMapper.writeValueAsBytes(quote(1L, 0, "100.50", "Provider1"));
+
+        // same version: cached JSON wins, even if the object differs
+        assertEquals("{\"coverageType\":\"CAR\",\"price\":100.50,\"providerName\":\"Provider1\"}",
+                objectMapper.writeValueAsString(quote(1L, 0, "1.00", "Other")));
+
+        assertEquals("{\"coverageType\":\"CAR\",\"price\":1.00,\"providerName\":\"Other\"}",
+                objectMapper.writeValueAsString(quote(1L, 1, "1.00", "Other")));
+
+        // an older version does not replace the newer one
+        objectMapper.writeValueAsString(quote(1L, 0, "100.50", "Provider1"));
+        assertEquals("{\"coverageType\":\"CAR\",\"price\":1.00,\"providerName\":\"Other\"}",
+                objectMapper.writeValueAsString(quote(1L, 1, "2.00", "Again")));
+    }
+
+    @Test
+    void serialize_prettyPrintedAndBinary_fieldByField() throws Exception {
+        var quote = quote(1L, 0, "100.50", "Provider1");
+        objectMapper.writeValueAsString(quote(1L, 0, "1.00", "Cached"));
+
+        var pretty = mapper(new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)).writeValueAsString(quote);
+        assertTrue(pretty.contains("Provider1"));
+
+        var cborMapper = mapper(new ObjectMapper(new CBORFactory()));
+        var decoded = cborMapper.readValue(cborMapper.writeValueAsBytes(quote), QuoteResponseDto.class);
+        assertEquals(quote, decoded);
+    }
+
+    private ObjectMapper mapper(ObjectMapper objectMapper) {
+        return objectMapper.registerModule(new SimpleModule()
+                .addSerializer(QuoteResponseDto.class, new QuoteResponseDtoSerializer(fragmentCache)));
+    }
+
+    private static QuoteResponseDto quote(Long id, Integer version, String price, String providerName) {
+        return QuoteResponseDto.builder()
+                .id(id)
+                .version(version)
+                .coverageType(CoverageTypeDto.CAR)
+                .price(new BigDecimal(price))
+                .providerName(providerName)
+                .build();
+    }
+}
@@ -1,5 +1,7 @@
 package insurance.service;
 
+import insurance.config.ApplicationProperties;
+import insurance.config.datasource.QuoteShards;
 import insurance.domain.Provider;
 import insurance.domain.Quote;
 import insurance.domain.enumaration.CoverageType;
@@ -12,10 +14,13 @@ import insurance.service.dto.mapper.DtoMapperImpl;
 import insurance.service.strategy.AggregationStrategyResolver;
 import insurance.service.strategy.HighestPriceAggregationStrategy;
 import insurance.service.strategy.LowestPriceAggregationStrategy;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import java.math.BigDecimal;
@@ -30,7 +35,10 @@ import static org.mockito.Mockito.doReturn;
         AggregationStrategyResolver.class,
         LowestPriceAggregationStrategy.class,
         HighestPriceAggregationStrategy.class,
-        DtoMapperImpl.class
+        DtoMapperImpl.class,
+        QuoteShards.class,
+        ApplicationProperties.class,
+        AggregationServiceUTest.ObservationConfig.class
 })
 class AggregationServiceUTest {
     @Autowired
@@ -114,6 +122,7 @@ class AggregationServiceUTest {
         cheapQuote = Quote.builder()
                 .id(1L)
                 .provider(provider)
+                .providerName(provider.getName())
                 .coverageType(CoverageType.CAR)
                 .price(BigDecimal.valueOf(100))
                 .build();
@@ -121,8 +130,17 @@ class AggregationServiceUTest {
         expensiveQuote = Quote.builder()
                 .id(2L)
                 .provider(provider)
+                .providerName(provider.getName())
                 .coverageType(CoverageType.CAR)
                 .price(BigDecimal.valueOf(500))
                 .build();
     }
+
+    @TestConfiguration
+    static class ObservationConfig {
+        @Bean
+        ObservationRegistry observationRegistry() {
+            return ObservationRegistry.NOOP;
+        }
+    }
 }
@@ -0,0 +1,153 @@
+package insurance.service;
+
+import insurance.config.ApplicationProperties;
+import insurance.config.datasource.QuoteShards;
+import insurance.domain.Provider;
+import insurance.domain.Quote;
+import insurance.domain.enumaration.CoverageType;
+import insurance.repository.QuoteRepository;
+import insurance.service.bundle.ProviderPriceMatrix;
+import insurance.service.dto.BundleRequestDto;
+import insurance.service.dto.QuoteResponseDto;
+import insurance.service.dto.enumeration.CoverageTypeDto;
+import insurance.service.dto.mapper.DtoMapperImpl;
+import insurance.service.event.QuoteChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BundleServiceUTest {
+    private QuoteRepository quoteRepository;
+    private ProviderPriceMatrix providerPriceMatrix;
+    private BundleService bundleService;
+
+    private final Provider provider1 = Provider.builder().id(1L).name("Provider1").build();
+    private final Provider provider2 = Provider.builder().id(2L).name("Provider2").build();
+
+    @BeforeEach
+    void setUp() {
+        quoteRepository = mock(QuoteRepository.class);
+        providerPriceMatrix = new ProviderPriceMatrix(quoteRepository, mock(ApplicationEventPublisher.class),
+                new QuoteShards(new ApplicationProperties(), null));
+        bundleService = new BundleService(providerPriceMatrix, new DtoMapperImpl());
+
+        doReturn(List.of(
+                quote(provider1, CoverageType.CAR, "100.00"),
+                quote(provider1, CoverageType.HOME, "200.00"),
+                quote(provider2, CoverageType.CAR, "80.00"),
+                quote(provider2, CoverageType.HOME, "250.00"),
+                quote(provider2, CoverageType.LIFE, "50.00")
+        )).when(quoteRepository).findAllByCoverageType(any());
+    }
+
+    @Test
+    void findCheapestBundle_singleProviderAndMixed() {
+        var result = bundleService.findCheapestBundle(request(CoverageTypeDto.CAR, CoverageTypeDto.HOME));
+
+        assertEquals(new BigDecimal("300.00"), result.getSingleProvider().getTotalPrice());
+        assertTrue(result.getSingleProvider().getQuotes().stream().allMatch(q -> "Provider1".equals(q.getProviderName())));
+
+        assertEquals(new BigDecimal("280.00"), result.getMixed().getTotalPrice());
+        assertEquals(List.of("Provider2", "Provider1"),
+                result.getMixed().getQuotes().stream().map(QuoteResponseDto::getProviderName).toList());
+    }
+
+    @Test
+    void findCheapestBundle_noProviderCoversAll_onlyMixed() {
+        var result = bundleService.findCheapestBundle(request(CoverageTypeDto.HOME, CoverageTypeDto.LIFE));
+
+        assertNull(result.getSingleProvider());
+        assertEquals(new BigDecimal("250.00"), result.getMixed().getTotalPrice());
+    }
+
+    @Test
+    void findCheapestBundle_coverageTypeWithoutQuotes_noOffer() {
+        var result = bundleService.findCheapestBundle(request(CoverageTypeDto.CAR, CoverageTypeDto.TRAVEL));
+
+        assertNull(result.getSingleProvider());
+        assertNull(result.getMixed());
+    }
+
+    @Test
+    void findCheapestBundle_priceBeyondLongCents_leftOut() {
+        var provider3 = Provider.builder().id(3L).name("Provider3").build();
+        doReturn(List.of(
+                quote(provider1, CoverageType.CAR, "100.00"),
+                quote(provider3, CoverageType.CAR, "99999999999999999.99")
+        )).when(quoteRepository).findAllByCoverageType(any());
+
+        var result = bundleService.findCheapestBundle(request(CoverageTypeDto.CAR));
+
+        assertEquals(new BigDecimal("100.00"), result.getSingleProvider().getTotalPrice());
+    }
+
+    @Test
+    void findCheapestBundle_totalBeyondLongCents_neverCheapest() {
+        var provider3 = Provider.builder().id(3L).name("Provider3").build();
+        doReturn(List.of(
+                quote(provider1, CoverageType.CAR, "100.00"),
+                quote(provider1, CoverageType.HOME, "200.00"),
+                quote(provider3, CoverageType.CAR, "90000000000000000.00"),
+                quote(provider3, CoverageType.HOME, "90000000000000000.00")
+        )).when(quoteRepository).findAllByCoverageType(any());
+
+        var result = bundleService.findCheapestBundle(request(CoverageTypeDto.CAR, CoverageTypeDto.HOME));
+
+        assertEquals(new BigDecimal("300.00"), result.getSingleProvider().getTotalPrice());
+        assertTrue(result.getSingleProvider().getQuotes().stream().allMatch(q -> "Provider1".equals(q.getProviderName())));
+    }
+
+    @Test
+    void onQuoteChanged_updatesLoadedMatrixWithoutReload() {
+        providerPriceMatrix.getSnapshot();
+
+        providerPriceMatrix.onQuoteChanged(QuoteChangedEvent.builder()
+                .changeType(QuoteChangedEvent.ChangeType.UPDATED)
+                .providerId(1L)
+                .previousCoverageType(CoverageType.HOME)
+                .coverageType(CoverageType.HOME)
+                .price(new BigDecimal("150"))
+                .build());
+        providerPriceMatrix.onQuoteChanged(QuoteChangedEvent.builder()
+                .changeType(QuoteChangedEvent.ChangeType.DELETED)
+                .providerId(2L)
+                .previousCoverageType(CoverageType.CAR)
+                .build());
+        providerPriceMatrix.onQuoteChanged(QuoteChangedEvent.builder()
+                .changeType(QuoteChangedEvent.ChangeType.CREATED)
+                .providerId(3L)
+                .providerName("Provider3")
+                .coverageType(CoverageType.LIFE)
+                .price(new BigDecimal("40.5"))
+                .build());
+
+        var result = bundleService.findCheapestBundle(request(CoverageTypeDto.CAR, CoverageTypeDto.HOME, CoverageTypeDto.LIFE));
+
+        assertNull(result.getSingleProvider());
+        assertEquals(new BigDecimal("290.50"), result.getMixed().getTotalPrice());
+        verify(quoteRepository, times(1)).findAllByCoverageType(any());
+    }
+
+    private static BundleRequestDto request(CoverageTypeDto... coverageTypes) {
+        return BundleRequestDto.builder()
+                .coverageTypeDto(Set.of(coverageTypes))
+                .build();
+    }
+
+    private static Quote quote(Provider provider, CoverageType coverageType, String price) {
+        return Quote.builder()
+                .provider(provider)
+                .providerName(provider.getName())
+                .coverageType(coverageType)
+                .price(new BigDecimal(price))
+                .build();
+    }
+}
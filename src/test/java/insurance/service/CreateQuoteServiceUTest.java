@@ -1,10 +1,14 @@
 package insurance.service;
 
+import insurance.config.ApplicationProperties;
+import insurance.config.datasource.QuoteShards;
 import insurance.domain.Provider;
 import insurance.domain.Quote;
 import insurance.domain.enumaration.CoverageType;
 import insurance.repository.ProviderRepository;
 import insurance.repository.QuoteRepository;
+import insurance.service.cache.QuoteCacheInvalidator;
+import insurance.service.cache.QuoteNotFoundCache;
 import insurance.service.dto.CreateQuoteRequestDto;
 import insurance.service.dto.enumeration.CoverageTypeDto;
 import insurance.service.dto.mapper.DtoMapperImpl;
@@ -23,11 +27,12 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
-@SpringBootTest(classes = {QuoteService.class, DtoMapperImpl.class})
+@SpringBootTest(classes = {QuoteService.class, DtoMapperImpl.class, QuoteShards.class, ApplicationProperties.class})
 public class CreateQuoteServiceUTest {
     @Autowired
     private QuoteService quoteService;
@@ -36,6 +41,10 @@ public class CreateQuoteServiceUTest {
     private QuoteRepository quoteRepository;
     @MockitoBean
     private ProviderRepository providerRepository;
+    @MockitoBean
+    private QuoteNotFoundCache quoteNotFoundCache;
+    @MockitoBean
+    private QuoteCacheInvalidator quoteCacheInvalidator;
 
     @Captor
     private ArgumentCaptor<Quote> quoteCaptor;
@@ -48,7 +57,7 @@ public class CreateQuoteServiceUTest {
     void setUp() {
         setUpData();
 
-        doReturn(Optional.of(provider)).when(providerRepository).findByIdAndDeletedAtIsNull(any());
+        doReturn(Optional.of(provider)).when(providerRepository).findForShareByIdAndDeletedAtIsNull(any());
         doReturn(Optional.empty())
                 .when(quoteRepository)
                 .findByCoverageTypeAndProviderIdIsAndDeletedAtIsNull(any(), anyLong());
@@ -57,7 +66,7 @@ public class CreateQuoteServiceUTest {
     @Test
     void createQuote_providerNotFound_throwsException() {
 
-        doReturn(Optional.empty()).when(providerRepository).findByIdAndDeletedAtIsNull(any());
+        doReturn(Optional.empty()).when(providerRepository).findForShareByIdAndDeletedAtIsNull(any());
 
         var ex = assertThrows(InsuranceException.class,
                 () -> quoteService.createQuote(requestDto));
@@ -91,6 +100,8 @@ public class CreateQuoteServiceUTest {
         verify(quoteRepository).save(quoteCaptor.capture());
         assertEquals(provider.getId(), quoteCaptor.getValue().getProvider().getId());
         assertEquals(CoverageType.CAR, quoteCaptor.getValue().getCoverageType());
+        assertEquals("Provider1", quoteCaptor.getValue().getProviderName());
+        assertTrue(quoteCaptor.getValue().isProviderActive());
     }
 
     private void setUpData() {
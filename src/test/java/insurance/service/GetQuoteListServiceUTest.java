@@ -1,10 +1,14 @@
 package insurance.service;
 
+import insurance.config.ApplicationProperties;
+import insurance.config.datasource.QuoteShards;
 import insurance.domain.Provider;
 import insurance.domain.Quote;
 import insurance.domain.enumaration.CoverageType;
 import insurance.repository.ProviderRepository;
 import insurance.repository.QuoteRepository;
+import insurance.service.cache.QuoteCacheInvalidator;
+import insurance.service.cache.QuoteNotFoundCache;
 import insurance.service.dto.GetQuoteListRequestDto;
 import insurance.service.dto.enumeration.CoverageTypeDto;
 import insurance.service.dto.mapper.DtoMapperImpl;
@@ -24,7 +28,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.wildfly.common.Assert.*;
 
-@SpringBootTest(classes = {QuoteService.class, DtoMapperImpl.class})
+@SpringBootTest(classes = {QuoteService.class, DtoMapperImpl.class, QuoteShards.class, ApplicationProperties.class})
 public class GetQuoteListServiceUTest {
     @Autowired
     private QuoteService quoteService;
@@ -33,6 +37,10 @@ public class GetQuoteListServiceUTest {
     private QuoteRepository quoteRepository;
     @MockitoBean
     private ProviderRepository providerRepository;
+    @MockitoBean
+    private QuoteNotFoundCache quoteNotFoundCache;
+    @MockitoBean
+    private QuoteCacheInvalidator quoteCacheInvalidator;
 
     @Captor
     private ArgumentCaptor<List<CoverageType>> coverageTypeListCaptor;
@@ -98,6 +106,7 @@ public class GetQuoteListServiceUTest {
         var q1 = Quote.builder()
                 .id(1L)
                 .provider(provider)
+                .providerName(provider.getName())
                 .coverageType(CoverageType.CAR)
                 .price(BigDecimal.valueOf(1000))
                 .build();
@@ -105,6 +114,7 @@ public class GetQuoteListServiceUTest {
         var q2 = Quote.builder()
                 .id(2L)
                 .provider(provider)
+                .providerName(provider.getName())
                 .coverageType(CoverageType.CAR)
                 .price(BigDecimal.valueOf(2000))
                 .build();
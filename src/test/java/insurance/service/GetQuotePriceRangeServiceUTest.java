@@ -0,0 +1,111 @@
+package insurance.service;
+
+import insurance.config.ApplicationProperties;
+import insurance.config.datasource.QuoteShards;
+import insurance.domain.Provider;
+import insurance.domain.Quote;
+import insurance.domain.enumaration.CoverageType;
+import insurance.repository.ProviderRepository;
+import insurance.repository.QuoteRepository;
+import insurance.service.cache.QuoteCacheInvalidator;
+import insurance.service.cache.QuoteNotFoundCache;
+import insurance.service.dto.GetQuotePriceRangeRequestDto;
+import insurance.service.dto.enumeration.CoverageTypeDto;
+import insurance.service.dto.enumeration.SortDirectionDto;
+import insurance.service.dto.mapper.DtoMapperImpl;
+import insurance.web.rest.errors.InsuranceErrorType;
+import insurance.web.rest.errors.InsuranceException;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(classes = {QuoteService.class, DtoMapperImpl.class, QuoteShards.class, ApplicationProperties.class})
+class GetQuotePriceRangeServiceUTest {
+    @Autowired
+    private QuoteService quoteService;
+
+    @MockitoBean
+    private QuoteRepository quoteRepository;
+    @MockitoBean
+    private ProviderRepository providerRepository;
+    @MockitoBean
+    private QuoteNotFoundCache quoteNotFoundCache;
+    @MockitoBean
+    private QuoteCacheInvalidator quoteCacheInvalidator;
+
+    @Captor
+    private ArgumentCaptor<Pageable> pageableCaptor;
+
+    @Test
+    void getQuotesInPriceRange_minAboveMax_throwsException() {
+        var request = GetQuotePriceRangeRequestDto.builder()
+                .coverageTypeDto(CoverageTypeDto.TRAVEL)
+                .minPrice(BigDecimal.valueOf(120))
+                .maxPrice(BigDecimal.valueOf(50))
+                .build();
+
+        var ex = assertThrows(InsuranceException.class, () -> quoteService.getQuotesInPriceRange(request));
+
+        assertEquals(InsuranceErrorType.BAD_REQUEST, ex.getInsuranceErrorType());
+        verifyNoInteractions(quoteRepository);
+    }
+
+    @Test
+    void getQuotesInPriceRange_defaults_ascendingWithDefaultLimit() {
+        var request = GetQuotePriceRangeRequestDto.builder()
+                .coverageTypeDto(CoverageTypeDto.TRAVEL)
+                .build();
+        doReturn(List.of()).when(quoteRepository).findAllByCoverageTypeAndPriceBetween(any(), any(), any(), any());
+
+        quoteService.getQuotesInPriceRange(request);
+
+        verify(quoteRepository).findAllByCoverageTypeAndPriceBetween(
+                eq(CoverageType.TRAVEL), eq(BigDecimal.ZERO), any(), pageableCaptor.capture());
+        assertEquals(50, pageableCaptor.getValue().getPageSize());
+        assertEquals(Sort.Direction.ASC, pageableCaptor.getValue().getSort().getOrderFor("price").getDirection());
+    }
+
+    @Test
+    void getQuotesInPriceRange_happyFlow() {
+        var request = GetQuotePriceRangeRequestDto.builder()
+                .coverageTypeDto(CoverageTypeDto.TRAVEL)
+                .minPrice(BigDecimal.valueOf(50))
+                .maxPrice(BigDecimal.valueOf(120))
+                .sortDirection(SortDirectionDto.DESC)
+                .limit(10)
+                .build();
+
+        var provider = Provider.builder().id(1L).name("Provider1").build();
+        var quote = Quote.builder()
+                .id(1L)
+                .provider(provider)
+                .providerName(provider.getName())
+                .coverageType(CoverageType.TRAVEL)
+                .price(BigDecimal.valueOf(80))
+                .build();
+        doReturn(List.of(quote)).when(quoteRepository).findAllByCoverageTypeAndPriceBetween(any(), any(), any(), any());
+
+        var result = quoteService.getQuotesInPriceRange(request);
+
+        assertEquals(1, result.size());
+        assertEquals(BigDecimal.valueOf(80), result.getFirst().getPrice());
+        verify(quoteRepository).findAllByCoverageTypeAndPriceBetween(
+                eq(CoverageType.TRAVEL), eq(BigDecimal.valueOf(50)), eq(BigDecimal.valueOf(120)), pageableCaptor.capture());
+        assertEquals(10, pageableCaptor.getValue().getPageSize());
+        assertEquals(Sort.Direction.DESC, pageableCaptor.getValue().getSort().getOrderFor("price").getDirection());
+    }
+}
@@ -1,10 +1,14 @@
 package insurance.service;
 
+import insurance.config.ApplicationProperties;
+import insurance.config.datasource.QuoteShards;
 import insurance.domain.Provider;
 import insurance.domain.Quote;
 import insurance.domain.enumaration.CoverageType;
 import insurance.repository.ProviderRepository;
 import insurance.repository.QuoteRepository;
+import insurance.service.cache.QuoteCacheInvalidator;
+import insurance.service.cache.QuoteNotFoundCache;
 import insurance.service.dto.QuoteResponseDto;
 import insurance.service.dto.mapper.DtoMapperImpl;
 import insurance.web.rest.errors.InsuranceErrorType;
@@ -21,9 +25,9 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.*;
 
-@SpringBootTest(classes = {QuoteService.class, DtoMapperImpl.class})
+@SpringBootTest(classes = {QuoteService.class, DtoMapperImpl.class, QuoteShards.class, ApplicationProperties.class})
 public class GetQuoteServiceUTest {
 
     @Autowired
@@ -33,6 +37,10 @@ public class GetQuoteServiceUTest {
     private QuoteRepository quoteRepository;
     @MockitoBean
     private ProviderRepository providerRepository;
+    @MockitoBean
+    private QuoteNotFoundCache quoteNotFoundCache;
+    @MockitoBean
+    private QuoteCacheInvalidator quoteCacheInvalidator;
 
     private Quote quote;
 
@@ -46,6 +54,7 @@ public class GetQuoteServiceUTest {
         quote = Quote.builder()
                 .id(1L)
                 .provider(provider)
+                .providerName(provider.getName())
                 .coverageType(CoverageType.CAR)
                 .price(BigDecimal.TEN)
                 .build();
@@ -60,6 +69,38 @@ public class GetQuoteServiceUTest {
         assertEquals(InsuranceErrorType.NOT_FOUND, ex.getInsuranceErrorType());
     }
 
+    @Test
+    void getQuote_notFound_marksIdMissing() {
+        doReturn(Optional.empty()).when(quoteRepository).findByIdAndDeletedAtIsNull(any());
+
+        assertThrows(InsuranceException.class, () -> quoteService.getQuote(10L));
+
+        verify(quoteNotFoundCache).markMissing(10L);
+    }
+
+    @Test
+    void getQuote_createdWhileMarkingMissing_evictsMarkAgain() {
+        doReturn(Optional.empty(), Optional.of(quote)).when(quoteRepository).findByIdAndDeletedAtIsNull(1L);
+
+        var response = quoteService.getQuote(1L);
+
+        assertEquals(quote.getPrice(), response.getPrice());
+        var inOrder = inOrder(quoteNotFoundCache);
+        inOrder.verify(quoteNotFoundCache).markMissing(1L);
+        inOrder.verify(quoteNotFoundCache).evict(1L);
+    }
+
+    @Test
+    void getQuote_knownMissing_throwsWithoutQueryingRepository() {
+        doReturn(true).when(quoteNotFoundCache).isKnownMissing(10L);
+
+        var ex = assertThrows(InsuranceException.class,
+                () -> quoteService.getQuote(10L));
+
+        assertEquals(InsuranceErrorType.NOT_FOUND, ex.getInsuranceErrorType());
+        verifyNoInteractions(quoteRepository);
+    }
+
     @Test
     void getQuote_happyFlow() {
         doReturn(Optional.of(quote)).when(quoteRepository).findByIdAndDeletedAtIsNull(any());
@@ -0,0 +1,88 @@
+package insurance.service;
+
+import insurance.config.ApplicationProperties;
+import insurance.service.dto.AggregationRequestDto;
+import insurance.service.dto.AggregationResultDto;
+import insurance.service.dto.QuoteResponseDto;
+import insurance.service.dto.enumeration.AggregationTypeDto;
+import insurance.service.dto.enumeration.CoverageTypeDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class MarketOverviewServiceUTest {
+    private AggregationService aggregationService;
+    private MarketOverviewService marketOverviewService;
+
+    @BeforeEach
+    void setUp() {
+        aggregationService = mock(AggregationService.class);
+        var properties = new ApplicationProperties();
+        properties.getMarketOverview().setTimeout(Duration.ofMillis(500));
+        marketOverviewService = new MarketOverviewService(aggregationService, properties);
+
+        doReturn(AggregationResultDto.builder().sortedQuotes(List.of()).build())
+                .when(aggregationService).getAggregatedData(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        marketOverviewService.shutdown();
+    }
+
+    @Test
+    void getMarketOverview_allCoverageTypes() {
+        var cheapest = new QuoteResponseDto(CoverageTypeDto.CAR, new BigDecimal("100.00"), "Provider1");
+        var expensive = new QuoteResponseDto(CoverageTypeDto.CAR, new BigDecimal("150.50"), "Provider2");
+        doReturn(AggregationResultDto.builder().best(cheapest).sortedQuotes(List.of(cheapest, expensive)).build())
+                .when(aggregationService).getAggregatedData(request(CoverageTypeDto.CAR));
+
+        var overview = marketOverviewService.getMarketOverview();
+
+        assertEquals(CoverageTypeDto.values().length, overview.getCoverageTypes().size());
+        assertTrue(overview.getUnavailable().isEmpty());
+
+        var car = overview.getCoverageTypes().get(CoverageTypeDto.CAR.ordinal());
+        assertEquals(CoverageTypeDto.CAR, car.getCoverageType());
+        assertSame(cheapest, car.getBest());
+        assertEquals(2, car.getQuoteCount());
+        assertEquals(new BigDecimal("50.50"), car.getPriceSpread());
+
+        var home = overview.getCoverageTypes().get(CoverageTypeDto.HOME.ordinal());
+        assertEquals(0, home.getQuoteCount());
+        assertNull(home.getBest());
+        assertNull(home.getPriceSpread());
+    }
+
+    @Test
+    void getMarketOverview_slowAndFailingBranches_partialResult() {
+        doAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return null;
+        }).when(aggregationService).getAggregatedData(request(CoverageTypeDto.LIFE));
+        doThrow(new IllegalStateException("boom"))
+                .when(aggregationService).getAggregatedData(request(CoverageTypeDto.HEALTH));
+
+        var start = System.nanoTime();
+        var overview = marketOverviewService.getMarketOverview();
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(5)) < 0);
+        assertEquals(List.of(CoverageTypeDto.HEALTH, CoverageTypeDto.LIFE), overview.getUnavailable());
+        assertEquals(CoverageTypeDto.values().length - 2, overview.getCoverageTypes().size());
+    }
+
+    private static AggregationRequestDto request(CoverageTypeDto coverageType) {
+        return argThat(request -> request != null
+                && request.getAggregationType() == AggregationTypeDto.CHEAPEST
+                && request.getCoverageTypeDto() == coverageType);
+    }
+}
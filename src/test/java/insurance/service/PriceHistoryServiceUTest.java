@@ -0,0 +1,103 @@
+package insurance.service;
+
+import insurance.config.ApplicationProperties;
+import insurance.config.datasource.QuoteShards;
+import insurance.domain.enumaration.CoverageType;
+import insurance.repository.QuotePriceHistoryRepository;
+import insurance.repository.projection.PriceBucket;
+import insurance.service.dto.PriceHistoryRequestDto;
+import insurance.service.dto.enumeration.CoverageTypeDto;
+import insurance.service.dto.enumeration.PriceBucketGranularityDto;
+import insurance.service.dto.mapper.DtoMapperImpl;
+import insurance.service.event.QuoteChangedEvent;
+import insurance.web.rest.errors.InsuranceErrorType;
+import insurance.web.rest.errors.InsuranceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PriceHistoryServiceUTest {
+    private QuotePriceHistoryRepository quotePriceHistoryRepository;
+    private PriceHistoryService priceHistoryService;
+
+    @BeforeEach
+    void setUp() {
+        quotePriceHistoryRepository = mock(QuotePriceHistoryRepository.class);
+        priceHistoryService = new PriceHistoryService(quotePriceHistoryRepository, new DtoMapperImpl(), new ApplicationProperties(),
+                new QuoteShards(new ApplicationProperties(), null));
+    }
+
+    @Test
+    void onQuoteChanged_updated_recordsNewPrice() {
+        priceHistoryService.onQuoteChanged(QuoteChangedEvent.builder()
+                .changeType(QuoteChangedEvent.ChangeType.UPDATED)
+                .quoteId(7L)
+                .providerId(1L)
+                .previousCoverageType(CoverageType.CAR)
+                .coverageType(CoverageType.HOME)
+                .price(new BigDecimal("120.00"))
+                .build());
+
+        verify(quotePriceHistoryRepository).record(eq(7L), eq(1L), eq("HOME"), eq(new BigDecimal("120.00")), any());
+    }
+
+    @Test
+    void onQuoteChanged_deleted_notRecorded() {
+        priceHistoryService.onQuoteChanged(QuoteChangedEvent.builder()
+                .changeType(QuoteChangedEvent.ChangeType.DELETED)
+                .quoteId(7L)
+                .providerId(1L)
+                .previousCoverageType(CoverageType.CAR)
+                .build());
+
+        verifyNoInteractions(quotePriceHistoryRepository);
+    }
+
+    @Test
+    void getPriceHistory_averageFromRollup_fromRoundedToBucket() {
+        var bucketStart = LocalDateTime.of(2026, 1, 5, 0, 0);
+        var bucket = mock(PriceBucket.class);
+        doReturn(bucketStart).when(bucket).getBucketStart();
+        doReturn(new BigDecimal("100.00")).when(bucket).getMinPrice();
+        doReturn(new BigDecimal("200.00")).when(bucket).getMaxPrice();
+        doReturn(new BigDecimal("400.00")).when(bucket).getPriceSum();
+        doReturn(3L).when(bucket).getPriceCount();
+        doReturn(List.of(bucket)).when(quotePriceHistoryRepository).findBuckets(any(), any(), any(), any());
+
+        var result = priceHistoryService.getPriceHistory(PriceHistoryRequestDto.builder()
+                .coverageTypeDto(CoverageTypeDto.CAR)
+                .granularity(PriceBucketGranularityDto.DAY)
+                .from(LocalDateTime.of(2026, 1, 5, 13, 30))
+                .to(LocalDateTime.of(2026, 2, 1, 0, 0))
+                .build());
+
+        verify(quotePriceHistoryRepository).findBuckets("CAR", "DAY", bucketStart, LocalDateTime.of(2026, 2, 1, 0, 0));
+        assertEquals(1, result.size());
+        assertEquals(new BigDecimal("133.33"), result.getFirst().getAvgPrice());
+        assertEquals(new BigDecimal("100.00"), result.getFirst().getMinPrice());
+        assertEquals(new BigDecimal("200.00"), result.getFirst().getMaxPrice());
+        assertEquals(3, result.getFirst().getPriceCount());
+    }
+
+    @Test
+    void getPriceHistory_tooManyBuckets_badRequest() {
+        var from = LocalDateTime.of(2026, 1, 1, 0, 0);
+        var requestDto = PriceHistoryRequestDto.builder()
+                .coverageTypeDto(CoverageTypeDto.CAR)
+                .granularity(PriceBucketGranularityDto.HOUR)
+                .from(from)
+                .to(from.plusHours(1001))
+                .build();
+
+        var exception = assertThrows(InsuranceException.class, () -> priceHistoryService.getPriceHistory(requestDto));
+        assertEquals(InsuranceErrorType.BAD_REQUEST, exception.getInsuranceErrorType());
+        verifyNoInteractions(quotePriceHistoryRepository);
+    }
+}
@@ -0,0 +1,151 @@
+package insurance.service;
+
+import insurance.config.ApplicationProperties;
+import insurance.config.datasource.QuoteShards;
+import insurance.service.dto.UpdateQuoteRequestDto;
+import insurance.service.dto.enumeration.CoverageTypeDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class PriceUpdateBufferUTest {
+    private QuoteService quoteService;
+    private SimpleMeterRegistry meterRegistry;
+    private PriceUpdateBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        quoteService = mock(QuoteService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        var properties = new ApplicationProperties();
+        properties.getPriceUpdateBuffer().setBatchSize(2);
+        properties.getPriceUpdateBuffer().setMaxPending(3);
+        buffer = new PriceUpdateBuffer(quoteService, new QuoteShards(properties, null), properties, meterRegistry);
+    }
+
+    @Test
+    void flush_repeatedUpdates_writesLatestPriceOnce() {
+        assertTrue(buffer.offer(priceUpdate(1L, "100")));
+        assertTrue(buffer.offer(priceUpdate(1L, "101")));
+        assertTrue(buffer.offer(priceUpdate(1L, "102")));
+
+        buffer.flush();
+        buffer.flush();
+
+        verify(quoteService).updatePrices(Map.of(1L, new BigDecimal("102")));
+        assertEquals(2, meterRegistry.get("quote.price.buffer.coalesced").counter().count());
+    }
+
+    @Test
+    void flush_manyQuotes_writesInBatches() {
+        buffer.offer(priceUpdate(1L, "100"));
+        buffer.offer(priceUpdate(2L, "100"));
+        buffer.offer(priceUpdate(3L, "100"));
+
+        buffer.flush();
+
+        verify(quoteService).updatePrices(argThat(batch -> batch.size() == 2));
+        verify(quoteService).updatePrices(argThat(batch -> batch.size() == 1));
+        assertEquals(0, meterRegistry.get("quote.price.buffer.pending").gauge().value());
+    }
+
+    @Test
+    void flush_sharded_batchHoldsQuotesOfOneShard() {
+        var properties = new ApplicationProperties();
+        properties.getSharding().setEnabled(true);
+        properties.getSharding().getShards().add(new ApplicationProperties.Shard());
+        buffer = new PriceUpdateBuffer(quoteService, new QuoteShards(properties, null), properties, meterRegistry);
+        buffer.offer(priceUpdate(1L, "100"));
+        buffer.offer(priceUpdate(2L, "100"));
+
+        buffer.flush();
+
+        verify(quoteService).updatePrices(Map.of(1L, new BigDecimal("100")));
+        verify(quoteService).updatePrices(Map.of(2L, new BigDecimal("100")));
+    }
+
+    @Test
+    void flush_writeFails_keepsNewerPriceForNextFlush() {
+        buffer.offer(priceUpdate(1L, "100"));
+        doAnswer(invocation -> {
+            buffer.offer(priceUpdate(1L, "200"));
+            throw new IllegalStateException("database down");
+        }).doNothing().when(quoteService).updatePrices(any());
+
+        buffer.flush();
+        buffer.flush();
+
+        verify(quoteService).updatePrices(Map.of(1L, new BigDecimal("200")));
+    }
+
+    @Test
+    void flush_oneShardFails_otherShardsWrittenAndFailedRetried() {
+        var properties = new ApplicationProperties();
+        properties.getPriceUpdateBuffer().setBatchSize(1);
+        properties.getSharding().setEnabled(true);
+        properties.getSharding().getShards().add(new ApplicationProperties.Shard());
+        buffer = new PriceUpdateBuffer(quoteService, new QuoteShards(properties, null), properties, meterRegistry);
+        buffer.offer(priceUpdate(1L, "100"));
+        buffer.offer(priceUpdate(2L, "100"));
+        buffer.offer(priceUpdate(3L, "100"));
+        doThrow(new IllegalStateException("shard down")).when(quoteService).updatePrices(Map.of(1L, new BigDecimal("100")));
+
+        buffer.flush();
+
+        verify(quoteService).updatePrices(Map.of(2L, new BigDecimal("100")));
+        verify(quoteService, never()).updatePrices(Map.of(3L, new BigDecimal("100")));
+        assertEquals(2, meterRegistry.get("quote.price.buffer.pending").gauge().value());
+
+        doNothing().when(quoteService).updatePrices(any());
+        buffer.flush();
+
+        verify(quoteService, times(2)).updatePrices(Map.of(1L, new BigDecimal("100")));
+        verify(quoteService).updatePrices(Map.of(3L, new BigDecimal("100")));
+    }
+
+    @Test
+    void offer_coverageType_isWrittenSynchronouslyAndDiscardsBufferedPrice() {
+        buffer.offer(priceUpdate(1L, "100"));
+        var request = UpdateQuoteRequestDto.builder()
+                .quoteId(1L)
+                .price(new BigDecimal("150"))
+                .coverageTypeDto(CoverageTypeDto.HOME)
+                .build();
+
+        assertFalse(buffer.offer(request));
+        buffer.flush();
+
+        verifyNoInteractions(quoteService);
+    }
+
+    @Test
+    void offer_bufferFull_onlyBufferedQuotesAccepted() {
+        buffer.offer(priceUpdate(1L, "100"));
+        buffer.offer(priceUpdate(2L, "100"));
+        buffer.offer(priceUpdate(3L, "100"));
+
+        assertFalse(buffer.offer(priceUpdate(4L, "100")));
+        assertTrue(buffer.offer(priceUpdate(3L, "101")));
+    }
+
+    @Test
+    void shutdown_flushesPendingUpdates() {
+        buffer.offer(priceUpdate(1L, "100"));
+
+        buffer.shutdown();
+
+        verify(quoteService).updatePrices(Map.of(1L, new BigDecimal("100")));
+    }
+
+    private static UpdateQuoteRequestDto priceUpdate(long quoteId, String price) {
+        return UpdateQuoteRequestDto.builder().quoteId(quoteId).price(new BigDecimal(price)).build();
+    }
+}
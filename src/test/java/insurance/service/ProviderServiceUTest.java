@@ -0,0 +1,108 @@
+package insurance.service;
+
+import insurance.config.ApplicationProperties;
+import insurance.config.datasource.QuoteShards;
+import insurance.domain.Provider;
+import insurance.repository.ProviderRepository;
+import insurance.repository.QuoteRepository;
+import insurance.service.dto.UpdateProviderRequestDto;
+import insurance.web.rest.errors.InsuranceErrorType;
+import insurance.web.rest.errors.InsuranceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(classes = {ProviderService.class, QuoteShards.class, ApplicationProperties.class})
+class ProviderServiceUTest {
+
+    @Autowired
+    private ProviderService providerService;
+
+    @MockitoBean
+    private ProviderRepository providerRepository;
+    @MockitoBean
+    private QuoteRepository quoteRepository;
+
+    private Provider provider;
+
+    @BeforeEach
+    void setUp() {
+        provider = Provider.builder()
+                .id(1L)
+                .name("Provider1")
+                .build();
+    }
+
+    @Test
+    void renameProvider_happyFlow_updatesQuotes() {
+        doReturn(Optional.of(provider)).when(providerRepository).findForUpdateById(1L);
+
+        providerService.renameProvider(request("Provider2"));
+
+        assertEquals("Provider2", provider.getName());
+        verify(providerRepository).save(provider);
+        verify(quoteRepository).updateProviderName(eq(1L), eq("Provider2"), any());
+    }
+
+    @Test
+    void renameProvider_sameName_noWrite() {
+        doReturn(Optional.of(provider)).when(providerRepository).findForUpdateById(1L);
+
+        providerService.renameProvider(request("Provider1"));
+
+        verify(providerRepository, never()).save(any());
+        verifyNoInteractions(quoteRepository);
+    }
+
+    @Test
+    void renameProvider_nameTaken_throwsException() {
+        doReturn(Optional.of(provider)).when(providerRepository).findForUpdateById(1L);
+        doReturn(true).when(providerRepository).existsByName("Provider2");
+
+        var ex = assertThrows(InsuranceException.class,
+                () -> providerService.renameProvider(request("Provider2")));
+
+        assertEquals(InsuranceErrorType.BAD_REQUEST, ex.getInsuranceErrorType());
+        verify(quoteRepository, never()).updateProviderName(anyLong(), anyString(), any());
+    }
+
+    @Test
+    void deleteProvider_happyFlow_deactivatesQuotes() {
+        doReturn(Optional.of(provider)).when(providerRepository).findForUpdateById(1L);
+
+        providerService.deleteProvider(1L);
+
+        assertNotNull(provider.getDeletedAt());
+        verify(providerRepository).save(provider);
+        verify(quoteRepository).deactivateByProviderId(1L, provider.getDeletedAt());
+    }
+
+    @Test
+    void deleteProvider_notFound_throwsException() {
+        doReturn(Optional.empty()).when(providerRepository).findForUpdateById(anyLong());
+
+        var ex = assertThrows(InsuranceException.class,
+                () -> providerService.deleteProvider(1L));
+
+        assertEquals(InsuranceErrorType.NOT_FOUND, ex.getInsuranceErrorType());
+        verifyNoInteractions(quoteRepository);
+    }
+
+    private static UpdateProviderRequestDto request(String name) {
+        return UpdateProviderRequestDto.builder()
+                .providerId(1L)
+                .name(name)
+                .build();
+    }
+}
@@ -0,0 +1,67 @@
+package insurance.service;
+
+import insurance.config.ApplicationProperties;
+import insurance.config.datasource.QuoteShards;
+import insurance.repository.QuoteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class QuoteArchivalServiceUTest {
+    private QuoteRepository quoteRepository;
+    private QuoteArchivalService quoteArchivalService;
+
+    @BeforeEach
+    void setUp() {
+        quoteRepository = mock(QuoteRepository.class);
+
+        var applicationProperties = new ApplicationProperties();
+        applicationProperties.getArchival().setEnabled(true);
+        applicationProperties.getArchival().setRetention(Duration.ofDays(30));
+        applicationProperties.getArchival().setBatchSize(100);
+        applicationProperties.getArchival().setMaxBatchesPerRun(3);
+
+        quoteArchivalService = new QuoteArchivalService(quoteRepository, applicationProperties,
+                new QuoteShards(applicationProperties, null));
+    }
+
+    @Test
+    void archiveDeletedQuotes_partialBatch_stops() {
+        doReturn(100, 40).when(quoteRepository).archiveDeletedBefore(any(), anyInt(), any());
+
+        quoteArchivalService.archiveDeletedQuotes();
+
+        verify(quoteRepository, times(2)).archiveDeletedBefore(any(), eq(100), any());
+    }
+
+    @Test
+    void archiveDeletedQuotes_fullBatches_stopsAtMaxBatchesPerRun() {
+        doReturn(100).when(quoteRepository).archiveDeletedBefore(any(), anyInt(), any());
+
+        quoteArchivalService.archiveDeletedQuotes();
+
+        verify(quoteRepository, times(3)).archiveDeletedBefore(any(), eq(100), any());
+    }
+
+    @Test
+    void archiveDeletedQuotes_usesRetentionAsThreshold() {
+        doReturn(0).when(quoteRepository).archiveDeletedBefore(any(), anyInt(), any());
+        var latestExpected = LocalDateTime.now().minusDays(30);
+
+        quoteArchivalService.archiveDeletedQuotes();
+
+        verify(quoteRepository).archiveDeletedBefore(
+                argThat(deletedBefore -> !deletedBefore.isBefore(latestExpected)
+                        && deletedBefore.isBefore(latestExpected.plusMinutes(1))),
+                eq(100),
+                any());
+    }
+}
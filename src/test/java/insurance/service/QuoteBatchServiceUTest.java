@@ -0,0 +1,93 @@
+package insurance.service;
+
+import insurance.config.ApplicationProperties;
+import insurance.config.CacheNames;
+import insurance.config.cache.BulkCache;
+import insurance.config.datasource.QuoteShards;
+import insurance.domain.Provider;
+import insurance.domain.Quote;
+import insurance.domain.enumaration.CoverageType;
+import insurance.repository.QuoteRepository;
+import insurance.service.dto.GetQuoteBatchRequestDto;
+import insurance.service.dto.QuoteBatchItemDto;
+import insurance.service.dto.QuoteResponseDto;
+import insurance.service.dto.enumeration.CoverageTypeDto;
+import insurance.service.dto.mapper.DtoMapperImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(classes = {QuoteBatchService.class, DtoMapperImpl.class, QuoteShards.class, ApplicationProperties.class})
+class QuoteBatchServiceUTest {
+
+    @Autowired
+    private QuoteBatchService quoteBatchService;
+
+    @MockitoBean
+    private QuoteRepository quoteRepository;
+    @MockitoBean
+    private CacheManager cacheManager;
+
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = mock(Cache.class, withSettings().extraInterfaces(BulkCache.class));
+        doReturn(cache).when(cacheManager).getCache(CacheNames.QUOTE_CACHE);
+    }
+
+    @Test
+    void getQuotes_cachedAndLoaded_requestOrderPreserved() {
+        var cached = new QuoteResponseDto(CoverageTypeDto.CAR, BigDecimal.TEN, "Provider1");
+        doReturn(Map.of(2L, cached)).when((BulkCache) cache).getAll(any());
+
+        var provider = Provider.builder().id(1L).name("Provider1").build();
+        var loaded = Quote.builder()
+                .id(3L)
+                .provider(provider)
+                .providerName(provider.getName())
+                .coverageType(CoverageType.HOME)
+                .price(BigDecimal.ONE)
+                .build();
+        doReturn(List.of(loaded)).when(quoteRepository).findAllByIdInAndDeletedAtIsNull(any());
+
+        var result = quoteBatchService.getQuotes(GetQuoteBatchRequestDto.builder()
+                .quoteIds(List.of(3L, 2L, 9L, 3L))
+                .build());
+
+        assertEquals(List.of(3L, 2L, 9L, 3L), result.stream().map(QuoteBatchItemDto::getQuoteId).toList());
+        assertEquals(CoverageTypeDto.HOME, result.getFirst().getQuote().getCoverageType());
+        assertSame(cached, result.get(1).getQuote());
+        assertNull(result.get(2).getQuote());
+        assertEquals(result.getFirst().getQuote(), result.get(3).getQuote());
+
+        verify(quoteRepository).findAllByIdInAndDeletedAtIsNull(List.of(3L, 9L));
+        verify((BulkCache) cache).putAll(Map.of(3L, result.getFirst().getQuote()));
+    }
+
+    @Test
+    void getQuotes_allCached_noQuery() {
+        var cached = new QuoteResponseDto(CoverageTypeDto.CAR, BigDecimal.TEN, "Provider1");
+        doReturn(Map.of(1L, cached)).when((BulkCache) cache).getAll(any());
+
+        var result = quoteBatchService.getQuotes(GetQuoteBatchRequestDto.builder()
+                .quoteIds(List.of(1L))
+                .build());
+
+        assertSame(cached, result.getFirst().getQuote());
+        verifyNoInteractions(quoteRepository);
+        verify((BulkCache) cache, never()).putAll(any());
+    }
+}
@@ -0,0 +1,119 @@
+package insurance.service;
+
+import insurance.repository.ProviderRepository;
+import insurance.service.dto.CreateQuoteRequestDto;
+import insurance.service.dto.UpdateProviderRequestDto;
+import insurance.service.dto.enumeration.CoverageTypeDto;
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Provider changes applied shard by shard, with the provider already in the second-level cache, against two real
+ * Postgres shards. CAR quotes live on shard 1. Skipped without Docker.
+ */
+@SpringBootTest(properties = {
+        "application.rate-limit.enabled=false",
+        "application.archival.enabled=false",
+        "application.bundle.refresh-interval=PT1H",
+        "application.cache.second-level.provider=local",
+        "application.sharding.enabled=true",
+})
+@Testcontainers(disabledWithoutDocker = true)
+class ShardedProviderITest {
+
+    @Container
+    static final PostgreSQLContainer<?> SHARD_0 = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @Container
+    static final PostgreSQLContainer<?> SHARD_1 = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void containerProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", SHARD_0::getJdbcUrl);
+        registry.add("spring.datasource.username", SHARD_0::getUsername);
+        registry.add("spring.datasource.password", SHARD_0::getPassword);
+        registry.add("application.sharding.shards[0].url", SHARD_1::getJdbcUrl);
+        registry.add("application.sharding.shards[0].username", SHARD_1::getUsername);
+        registry.add("application.sharding.shards[0].password", SHARD_1::getPassword);
+        registry.add("spring.data.redis.host", REDIS::getHost);
+        registry.add("spring.data.redis.port", () -> REDIS.getMappedPort(6379));
+    }
+
+    /**
+     * Liquibase migrates shard 0 only; shard 1 is migrated the way the migrate profile would, before the context
+     * aligns the quote ids.
+     */
+    @BeforeAll
+    static void migrateShard1() throws Exception {
+        var liquibase = new SpringLiquibase();
+        liquibase.setDataSource(shard1());
+        liquibase.setChangeLog("classpath:liquibase/master.xml");
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+    }
+
+    @Autowired
+    private QuoteService quoteService;
+    @Autowired
+    private ProviderService providerService;
+    @Autowired
+    private ProviderRepository providerRepository;
+
+    @Test
+    void deleteProvider_cachedOnShard0_deactivatesQuotesOnShard1() {
+        createQuote(3L, CoverageTypeDto.CAR);
+        createQuote(3L, CoverageTypeDto.HEALTH);
+        assertTrue(providerRepository.findByIdAndDeletedAtIsNull(3L).isPresent());
+
+        providerService.deleteProvider(3L);
+
+        var shard1 = new JdbcTemplate(shard1());
+        assertNotNull(shard1.queryForObject("select deleted_at from provider where id = 3", Object.class));
+        assertEquals(Boolean.FALSE, shard1.queryForObject(
+                "select bool_or(provider_active) from quote where provider_id = 3", Boolean.class));
+    }
+
+    @Test
+    void renameProvider_cachedOnShard0_renamesQuotesOnShard1() {
+        createQuote(4L, CoverageTypeDto.CAR);
+        var name = providerRepository.findByIdAndDeletedAtIsNull(4L).orElseThrow().getName();
+
+        providerService.renameProvider(UpdateProviderRequestDto.builder().providerId(4L).name(name + " Renamed").build());
+
+        var shard1 = new JdbcTemplate(shard1());
+        assertEquals(name + " Renamed", shard1.queryForObject("select name from provider where id = 4", String.class));
+        assertEquals(name + " Renamed", shard1.queryForObject(
+                "select provider_name from quote where provider_id = 4", String.class));
+    }
+
+    private void createQuote(long providerId, CoverageTypeDto coverageTypeDto) {
+        quoteService.createQuote(CreateQuoteRequestDto.builder()
+                .providerId(providerId)
+                .coverageTypeDto(coverageTypeDto)
+                .price(new BigDecimal("100.00"))
+                .build());
+    }
+
+    private static DriverManagerDataSource shard1() {
+        return new DriverManagerDataSource(SHARD_1.getJdbcUrl(), SHARD_1.getUsername(), SHARD_1.getPassword());
+    }
+}
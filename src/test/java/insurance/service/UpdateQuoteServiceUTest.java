@@ -1,30 +1,40 @@
 package insurance.service;
 
-import insurance.domain.Provider;
-import insurance.domain.Quote;
+import insurance.config.ApplicationProperties;
+import insurance.config.datasource.QuoteShards;
+import insurance.domain.enumaration.CoverageType;
 import insurance.repository.ProviderRepository;
 import insurance.repository.QuoteRepository;
+import insurance.repository.projection.QuoteUpdateResult;
+import insurance.repository.projection.UpdatedPrice;
+import insurance.service.cache.QuoteCacheInvalidator;
+import insurance.service.cache.QuoteNotFoundCache;
 import insurance.service.dto.UpdateQuoteRequestDto;
+import insurance.service.dto.enumeration.CoverageTypeDto;
 import insurance.service.dto.mapper.DtoMapperImpl;
 import insurance.web.rest.errors.InsuranceErrorType;
 import insurance.web.rest.errors.InsuranceException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
-@SpringBootTest(classes = {QuoteService.class, DtoMapperImpl.class})
+@SpringBootTest(classes = {QuoteService.class, DtoMapperImpl.class, QuoteShards.class, ApplicationProperties.class})
 public class UpdateQuoteServiceUTest {
     @Autowired
     private QuoteService quoteService;
@@ -33,44 +43,99 @@ public class UpdateQuoteServiceUTest {
     private QuoteRepository quoteRepository;
     @MockitoBean
     private ProviderRepository providerRepository;
+    @MockitoBean
+    private QuoteNotFoundCache quoteNotFoundCache;
+    @MockitoBean
+    private QuoteCacheInvalidator quoteCacheInvalidator;
 
-    @Captor
-    private ArgumentCaptor<Quote> quoteCaptor;
-
-    private Quote quote;
+    private QuoteUpdateResult updateResult;
     private UpdateQuoteRequestDto requestDto;
 
     @BeforeEach
     void setUp() {
         setUpData();
-        doReturn(Optional.of(quote)).when(quoteRepository).findByIdAndDeletedAtIsNull(any());
+        doReturn(Optional.of(updateResult)).when(quoteRepository).updateIfChanged(anyLong(), any(), any(), any());
     }
 
     @Test
     void updateQuote_quoteNotFound_throwsException() {
-        doReturn(Optional.empty()).when(quoteRepository).findByIdAndDeletedAtIsNull(any());
+        doReturn(Optional.empty()).when(quoteRepository).updateIfChanged(anyLong(), any(), any(), any());
 
         var ex = assertThrows(InsuranceException.class,
                 () -> quoteService.updateQuote(requestDto));
 
         assertEquals(InsuranceErrorType.NOT_FOUND, ex.getInsuranceErrorType());
+        verifyNoInteractions(quoteCacheInvalidator);
     }
 
     @Test
-    void updateQuote_priceChanged_saveCalled() {
+    void updateQuote_priceChanged_invalidatesChangedQuote() {
         quoteService.updateQuote(requestDto);
 
-        verify(quoteRepository).save(quoteCaptor.capture());
-        assertEquals(BigDecimal.valueOf(2000), quoteCaptor.getValue().getPrice());
+        verify(quoteRepository).updateIfChanged(eq(10L), isNull(), eq(BigDecimal.valueOf(2000)), any());
+        verify(quoteCacheInvalidator).quoteChanged(10L, CoverageType.CAR, CoverageType.CAR);
+    }
+
+    @Test
+    void updateQuote_coverageTypeChanged_passesCoverageTypeName() {
+        doReturn("TRAVEL").when(updateResult).getNewCoverageType();
+        var request = UpdateQuoteRequestDto.builder().quoteId(10L).coverageTypeDto(CoverageTypeDto.TRAVEL).build();
+
+        quoteService.updateQuote(request);
+
+        verify(quoteRepository).updateIfChanged(eq(10L), eq("TRAVEL"), isNull(), any());
+        verify(quoteCacheInvalidator).quoteChanged(10L, CoverageType.CAR, CoverageType.TRAVEL);
+    }
+
+    @Test
+    void updateQuote_duplicateCoverageType_throwsException() {
+        doReturn(true).when(updateResult).isDuplicate();
+        doReturn(false).when(updateResult).isUpdated();
+
+        var ex = assertThrows(InsuranceException.class,
+                () -> quoteService.updateQuote(requestDto));
+
+        assertEquals(InsuranceErrorType.BAD_REQUEST, ex.getInsuranceErrorType());
+        verifyNoInteractions(quoteCacheInvalidator);
     }
 
     @Test
-    void updateQuote_noChange_saveNotCalled() {
+    void updateQuote_noChange_cachesNotInvalidated() {
+        doReturn(false).when(updateResult).isUpdated();
         var request = UpdateQuoteRequestDto.builder().quoteId(10L).build();
 
         quoteService.updateQuote(request);
 
-        verify(quoteRepository, never()).save(any());
+        verifyNoInteractions(quoteCacheInvalidator);
+    }
+
+    @Test
+    void updatePrices_invalidatesWrittenQuotesOnce() {
+        var car = updatedPrice(10L, "CAR");
+        var home = updatedPrice(11L, "HOME");
+        doReturn(List.of(car, home)).when(quoteRepository).updatePrices(any(), any(), any());
+
+        quoteService.updatePrices(Map.of(10L, BigDecimal.valueOf(2000), 11L, BigDecimal.valueOf(2000), 12L, BigDecimal.ONE));
+
+        verify(quoteCacheInvalidator).quotesChanged(List.of(10L, 11L), EnumSet.of(CoverageType.CAR, CoverageType.HOME));
+    }
+
+    @Test
+    void updatePrices_nothingWritten_cachesNotInvalidated() {
+        doReturn(List.of()).when(quoteRepository).updatePrices(any(), any(), any());
+
+        quoteService.updatePrices(Map.of(10L, BigDecimal.valueOf(2000)));
+
+        verifyNoInteractions(quoteCacheInvalidator);
+    }
+
+    private static UpdatedPrice updatedPrice(long quoteId, String coverageType) {
+        var updatedPrice = mock(UpdatedPrice.class);
+        doReturn(quoteId).when(updatedPrice).getQuoteId();
+        doReturn(1L).when(updatedPrice).getProviderId();
+        doReturn(coverageType).when(updatedPrice).getCoverageType();
+        doReturn(BigDecimal.valueOf(2000)).when(updatedPrice).getPrice();
+        return updatedPrice;
     }
 
     private void setUpData() {
@@ -79,16 +144,11 @@ public class UpdateQuoteServiceUTest {
                 .price(BigDecimal.valueOf(2000))
                 .build();
 
-
-        var provider = Provider.builder()
-                .id(1L)
-                .name("Provider A")
-                .build();
-
-        quote = Quote.builder()
-                .id(10L)
-                .provider(provider)
-                .price(BigDecimal.valueOf(1500))
-                .build();
+        updateResult = mock(QuoteUpdateResult.class);
+        doReturn("CAR").when(updateResult).getOldCoverageType();
+        doReturn("CAR").when(updateResult).getNewCoverageType();
+        doReturn(1L).when(updateResult).getProviderId();
+        doReturn(BigDecimal.valueOf(2000)).when(updateResult).getPrice();
+        doReturn(true).when(updateResult).isUpdated();
     }
 }
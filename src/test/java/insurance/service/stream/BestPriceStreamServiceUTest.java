@@ -0,0 +1,106 @@
+package insurance.service.stream;
+
+import insurance.config.ApplicationProperties;
+import insurance.config.datasource.QuoteShards;
+import insurance.domain.Provider;
+import insurance.domain.Quote;
+import insurance.domain.enumaration.CoverageType;
+import insurance.repository.QuoteRepository;
+import insurance.service.bundle.ProviderPriceMatrix;
+import insurance.service.dto.BestPriceDto;
+import insurance.service.dto.enumeration.CoverageTypeDto;
+import insurance.service.dto.mapper.DtoMapperImpl;
+import insurance.service.event.QuoteChangedEvent;
+import insurance.web.rest.errors.InsuranceErrorType;
+import insurance.web.rest.errors.InsuranceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BestPriceStreamServiceUTest {
+    private ProviderPriceMatrix providerPriceMatrix;
+    private BestPriceStreamService bestPriceStreamService;
+
+    @BeforeEach
+    void setUp() {
+        var quoteRepository = mock(QuoteRepository.class);
+        var provider1 = Provider.builder().id(1L).name("Provider1").build();
+        var provider2 = Provider.builder().id(2L).name("Provider2").build();
+        doReturn(List.of(
+                quote(provider1, CoverageType.CAR, "100.00"),
+                quote(provider2, CoverageType.CAR, "80.00"),
+                quote(provider1, CoverageType.HOME, "200.00")
+        )).when(quoteRepository).findAllByCoverageType(any());
+
+        providerPriceMatrix = new ProviderPriceMatrix(quoteRepository, mock(ApplicationEventPublisher.class),
+                new QuoteShards(new ApplicationProperties(), null));
+        bestPriceStreamService = new BestPriceStreamService(providerPriceMatrix, new DtoMapperImpl(), new ApplicationProperties());
+    }
+
+    @Test
+    void updateBestPrices_firstSnapshot_reportsQuotedCoverageTypes() {
+        var changed = bestPriceStreamService.updateBestPrices(providerPriceMatrix.getSnapshot());
+
+        assertEquals(List.of(CoverageTypeDto.CAR, CoverageTypeDto.HOME), changed.stream().map(BestPriceDto::getCoverageType).toList());
+        assertEquals("Provider2", changed.getFirst().getCheapest().getProviderName());
+        assertEquals(new BigDecimal("80.00"), changed.getFirst().getCheapest().getPrice());
+        assertEquals("Provider1", changed.getFirst().getMostExpensive().getProviderName());
+    }
+
+    @Test
+    void updateBestPrices_changeNotAffectingBest_reportsNothing() {
+        bestPriceStreamService.updateBestPrices(providerPriceMatrix.getSnapshot());
+
+        providerPriceMatrix.onQuoteChanged(QuoteChangedEvent.builder()
+                .providerId(3L)
+                .providerName("Provider3")
+                .coverageType(CoverageType.CAR)
+                .price(new BigDecimal("90"))
+                .build());
+
+        assertTrue(bestPriceStreamService.updateBestPrices(providerPriceMatrix.getSnapshot()).isEmpty());
+    }
+
+    @Test
+    void updateBestPrices_lastQuoteDeleted_reportsEmptyBestPrice() {
+        bestPriceStreamService.updateBestPrices(providerPriceMatrix.getSnapshot());
+
+        providerPriceMatrix.onQuoteChanged(QuoteChangedEvent.builder()
+                .providerId(1L)
+                .previousCoverageType(CoverageType.HOME)
+                .build());
+
+        var changed = bestPriceStreamService.updateBestPrices(providerPriceMatrix.getSnapshot());
+        assertEquals(1, changed.size());
+        assertEquals(CoverageTypeDto.HOME, changed.getFirst().getCoverageType());
+        assertNull(changed.getFirst().getCheapest());
+    }
+
+    @Test
+    void subscribe_overMaxSubscribers_rejected() {
+        var applicationProperties = new ApplicationProperties();
+        applicationProperties.getBestPriceStream().setMaxSubscribers(1);
+        bestPriceStreamService = new BestPriceStreamService(providerPriceMatrix, new DtoMapperImpl(), applicationProperties);
+
+        assertNotNull(bestPriceStreamService.subscribe(List.of(CoverageTypeDto.CAR)));
+        assertEquals(1, bestPriceStreamService.getSubscriberCount());
+        var ex = assertThrows(InsuranceException.class, () -> bestPriceStreamService.subscribe(List.of()));
+        assertEquals(InsuranceErrorType.SERVICE_UNAVAILABLE, ex.getInsuranceErrorType());
+    }
+
+    private static Quote quote(Provider provider, CoverageType coverageType, String price) {
+        return Quote.builder()
+                .provider(provider)
+                .providerName(provider.getName())
+                .coverageType(coverageType)
+                .price(new BigDecimal(price))
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package insurance.web.filter;
+
+import insurance.web.rest.consts.Header;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestIdFilterUTest {
+    private final RequestIdFilter requestIdFilter = new RequestIdFilter();
+
+    @Test
+    void doFilter_callerRequestId_keptInMdcAndResponse() throws Exception {
+        var request = new MockHttpServletRequest();
+        request.addHeader(Header.REQUEST_ID, "abc-123");
+        var response = new MockHttpServletResponse();
+        var seen = new AtomicReference<String>();
+
+        requestIdFilter.doFilter(request, response, (req, res) -> seen.set(MDC.get(RequestIdFilter.MDC_KEY)));
+
+        assertEquals("abc-123", seen.get());
+        assertEquals("abc-123", response.getHeader(Header.REQUEST_ID));
+        assertNull(MDC.get(RequestIdFilter.MDC_KEY));
+    }
+
+    @Test
+    void doFilter_malformedRequestId_replaced() throws Exception {
+        var request = new MockHttpServletRequest();
+        request.addHeader(Header.REQUEST_ID, "bad\nid");
+        var response = new MockHttpServletResponse();
+        var seen = new AtomicReference<String>();
+
+        requestIdFilter.doFilter(request, response, (req, res) -> seen.set(MDC.get(RequestIdFilter.MDC_KEY)));
+
+        assertNotNull(seen.get());
+        assertNotEquals("bad\nid", seen.get());
+        assertEquals(seen.get(), response.getHeader(Header.REQUEST_ID));
+    }
+}
@@ -0,0 +1,280 @@
+package insurance.web.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import insurance.domain.enumaration.CoverageType;
+import insurance.repository.QuoteRepository;
+import insurance.service.dto.*;
+import insurance.service.dto.enumeration.AggregationTypeDto;
+import insurance.service.dto.enumeration.CoverageTypeDto;
+import insurance.service.dto.enumeration.PriceBucketGranularityDto;
+import insurance.web.rest.RoundTripCounter.RoundTrips;
+import insurance.web.rest.consts.Url;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the exact number of SQL statements and Redis calls of every hot endpoint against real Postgres and Redis, so
+ * a change that adds a query, an N+1 load or a cache round trip fails the build. If a change is meant to alter a
+ * count, update the expectation in the same change.
+ * <p>
+ * The second-level cache runs in-JVM here; with the Redis provider its calls go through Redisson's JCache and are
+ * not counted. Skipped without Docker.
+ */
+@SpringBootTest(properties = {
+        "application.rate-limit.enabled=false",
+        "application.archival.enabled=false",
+        "application.bundle.refresh-interval=PT1H",
+        "application.cache.second-level.provider=local",
+})
+@AutoConfigureMockMvc
+@Testcontainers(disabledWithoutDocker = true)
+class HotPathRoundTripITest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void containerProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.data.redis.host", REDIS::getHost);
+        registry.add("spring.data.redis.port", () -> REDIS.getMappedPort(6379));
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private QuoteRepository quoteRepository;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private RoundTripCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new RoundTripCounter(entityManagerFactory, meterRegistry);
+
+        cacheManager.getCacheNames().stream()
+                .map(cacheManager::getCache)
+                .filter(Objects::nonNull)
+                .forEach(Cache::clear);
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void getQuote() throws Exception {
+        var id = quote(1L, CoverageTypeDto.CAR);
+        var request = get(Url.GET_QUOTE_RETRIEVE, id);
+
+        // quote cache miss, not-found cache miss, select, quote cache put
+        assertRoundTrips(RoundTrips.of(1, 3), request, "cold");
+        assertRoundTrips(RoundTrips.of(0, 1), request, "cached");
+    }
+
+    @Test
+    void getQuote_missing() throws Exception {
+        var request = get(Url.GET_QUOTE_RETRIEVE, Long.MAX_VALUE);
+
+        // the id is read again after it is marked missing, in case a create committed in between
+        assertRoundTrips(RoundTrips.of(2, 3), request, 404, "cold");
+        assertRoundTrips(RoundTrips.of(0, 2), request, 404, "remembered");
+    }
+
+    @Test
+    void getQuoteBatch() throws Exception {
+        var request = post(Url.POST_QUOTE_BATCH, GetQuoteBatchRequestDto.builder()
+                .quoteIds(List.of(quote(1L, CoverageTypeDto.HOME), quote(2L, CoverageTypeDto.HOME), Long.MAX_VALUE))
+                .build());
+
+        // one multi-get, one IN query, one multi-put
+        assertRoundTrips(RoundTrips.of(1, 2), request, "cold");
+        assertRoundTrips(RoundTrips.of(0, 1), request, "cached");
+    }
+
+    @Test
+    void getQuoteList() throws Exception {
+        quote(2L, CoverageTypeDto.CAR);
+        quote(3L, CoverageTypeDto.CAR);
+        var request = post(Url.POST_QUOTE_LIST, GetQuoteListRequestDto.builder()
+                .coverageTypeDto(List.of(CoverageTypeDto.CAR))
+                .build());
+
+        // several quotes, still one statement: no lazy provider loads
+        assertRoundTrips(RoundTrips.of(1, 2), request, "cold");
+        assertRoundTrips(RoundTrips.of(0, 1), request, "cached");
+    }
+
+    @Test
+    void getQuotesInPriceRange() throws Exception {
+        quote(2L, CoverageTypeDto.CAR);
+        quote(3L, CoverageTypeDto.CAR);
+        var request = post(Url.POST_QUOTE_PRICE_RANGE, GetQuotePriceRangeRequestDto.builder()
+                .coverageTypeDto(CoverageTypeDto.CAR)
+                .build());
+
+        assertRoundTrips(RoundTrips.of(1, 0), request, "uncached");
+    }
+
+    @Test
+    void aggregate() throws Exception {
+        quote(2L, CoverageTypeDto.CAR);
+        quote(3L, CoverageTypeDto.CAR);
+        var request = post(Url.POST_QUOTE_AGGREGATION, AggregationRequestDto.builder()
+                .aggregationType(AggregationTypeDto.CHEAPEST)
+                .coverageTypeDto(CoverageTypeDto.CAR)
+                .build());
+
+        assertRoundTrips(RoundTrips.of(1, 2), request, "cold");
+        assertRoundTrips(RoundTrips.of(0, 1), request, "cached");
+    }
+
+    @Test
+    void marketOverview() throws Exception {
+        quote(2L, CoverageTypeDto.CAR);
+        var request = get(Url.GET_QUOTE_MARKET_OVERVIEW);
+        perform(request, 200);
+
+        // one cached aggregation per coverage type
+        assertRoundTrips(RoundTrips.of(0, CoverageTypeDto.values().length), request, "cached");
+    }
+
+    @Test
+    void bundle() throws Exception {
+        quote(2L, CoverageTypeDto.CAR);
+        var request = post(Url.POST_QUOTE_BUNDLE, BundleRequestDto.builder()
+                .coverageTypeDto(Set.of(CoverageTypeDto.CAR, CoverageTypeDto.HOME))
+                .build());
+        perform(request, 200);
+
+        // answered from the in-memory price matrix once it is loaded
+        assertRoundTrips(RoundTrips.of(0, 0), request, "loaded");
+    }
+
+    @Test
+    void priceHistory() throws Exception {
+        quote(2L, CoverageTypeDto.CAR);
+        var now = LocalDateTime.now();
+        var request = post(Url.POST_QUOTE_PRICE_HISTORY, PriceHistoryRequestDto.builder()
+                .coverageTypeDto(CoverageTypeDto.CAR)
+                .granularity(PriceBucketGranularityDto.HOUR)
+                .from(now.minusDays(1))
+                .to(now.plusHours(1))
+                .build());
+
+        assertRoundTrips(RoundTrips.of(1, 0), request, "rollup only");
+    }
+
+    @Test
+    void createQuote() throws Exception {
+        quote(4L, CoverageTypeDto.TRAVEL);
+        var request = post(Url.POST_QUOTE_CREATE, CreateQuoteRequestDto.builder()
+                .providerId(4L)
+                .coverageTypeDto(CoverageTypeDto.ACCIDENT)
+                .price(new BigDecimal("100.00"))
+                .build());
+
+        // provider row locked, duplicate check, insert, price history; three cache clears and the not-found eviction
+        assertRoundTrips(RoundTrips.of(4, 4), request, "created");
+    }
+
+    @Test
+    void updateQuote() throws Exception {
+        var request = put(Url.PUT_QUOTE_UPDATE, UpdateQuoteRequestDto.builder()
+                .quoteId(quote(3L, CoverageTypeDto.LIFE))
+                .price(new BigDecimal("123.45"))
+                .build());
+
+        // conditional update, price history; quote, two aggregations and the affected lists evicted
+        assertRoundTrips(RoundTrips.of(2, 4), request, "price changed");
+        assertRoundTrips(RoundTrips.of(1, 0), request, "unchanged");
+    }
+
+    @Test
+    void deleteQuote() throws Exception {
+        var request = delete(Url.DELETE_QUOTE_REMOVE, quote(4L, CoverageTypeDto.LIFE));
+
+        assertRoundTrips(RoundTrips.of(1, 4), request, "deleted");
+    }
+
+    private long quote(long providerId, CoverageTypeDto coverageType) throws Exception {
+        var domainCoverageType = CoverageType.valueOf(coverageType.name());
+        var existing = quoteRepository.findByCoverageTypeAndProviderIdIsAndDeletedAtIsNull(domainCoverageType, providerId);
+        if (existing.isPresent()) {
+            return existing.get().getId();
+        }
+
+        perform(post(Url.POST_QUOTE_CREATE, CreateQuoteRequestDto.builder()
+                .providerId(providerId)
+                .coverageTypeDto(coverageType)
+                .price(new BigDecimal("100.00"))
+                .build()), 200);
+        return quoteRepository.findByCoverageTypeAndProviderIdIsAndDeletedAtIsNull(domainCoverageType, providerId)
+                .orElseThrow()
+                .getId();
+    }
+
+    private MockHttpServletRequestBuilder post(String url, Object body) throws Exception {
+        return withBody(MockMvcRequestBuilders.post(url), body);
+    }
+
+    private MockHttpServletRequestBuilder put(String url, Object body) throws Exception {
+        return withBody(MockMvcRequestBuilders.put(url), body);
+    }
+
+    private MockHttpServletRequestBuilder withBody(MockHttpServletRequestBuilder request, Object body) throws Exception {
+        return request.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsBytes(body));
+    }
+
+    private void assertRoundTrips(RoundTrips expected, MockHttpServletRequestBuilder request, String state) throws Exception {
+        assertRoundTrips(expected, request, 200, state);
+    }
+
+    private void assertRoundTrips(RoundTrips expected, MockHttpServletRequestBuilder request, int status, String state)
+            throws Exception {
+        var actual = counter.measure(() -> perform(request, status));
+        var call = request.buildRequest(new MockServletContext());
+        assertEquals(expected, actual, call.getMethod() + " " + call.getRequestURI() + " (" + state + ")");
+    }
+
+    private void perform(MockHttpServletRequestBuilder request, int status) throws Exception {
+        mockMvc.perform(request).andExpect(status().is(status));
+    }
+}
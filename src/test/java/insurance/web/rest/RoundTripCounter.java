@@ -0,0 +1,54 @@
+package insurance.web.rest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+
+/**
+ * Counts the round trips a piece of code makes: JDBC statements prepared by Hibernate, from its statistics, and
+ * Spring cache calls that reached Redis, from the {@code cache.redis.calls} counters of the resilient cache manager.
+ * Only meaningful while nothing else runs against the same context.
+ */
+class RoundTripCounter {
+    private final SessionFactory sessionFactory;
+    private final MeterRegistry meterRegistry;
+
+    RoundTripCounter(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.meterRegistry = meterRegistry;
+    }
+
+    RoundTrips measure(ThrowingRunnable action) throws Exception {
+        var sqlBefore = sqlStatements();
+        var redisBefore = redisCalls();
+
+        action.run();
+
+        return new RoundTrips(sqlStatements() - sqlBefore, redisCalls() - redisBefore);
+    }
+
+    private long sqlStatements() {
+        return sessionFactory.getStatistics().getPrepareStatementCount();
+    }
+
+    private long redisCalls() {
+        // rejected calls were answered by the circuit breaker without reaching Redis
+        return redisCalls("success") + redisCalls("failure");
+    }
+
+    private long redisCalls(String outcome) {
+        var counter = meterRegistry.find("cache.redis.calls").tag("outcome", outcome).counter();
+        return counter == null ? 0 : (long) counter.count();
+    }
+
+    record RoundTrips(long sqlStatements, long redisCalls) {
+        static RoundTrips of(long sqlStatements, long redisCalls) {
+            return new RoundTrips(sqlStatements, redisCalls);
+        }
+    }
+
+    @FunctionalInterface
+    interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
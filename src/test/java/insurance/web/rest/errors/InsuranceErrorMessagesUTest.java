@@ -0,0 +1,53 @@
+package insurance.web.rest.errors;
+
+import insurance.config.ApplicationProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.MessageSource;
+import org.springframework.context.support.ResourceBundleMessageSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class InsuranceErrorMessagesUTest {
+    private MessageSource messageSource;
+    private InsuranceErrorMessages insuranceErrorMessages;
+
+    @BeforeEach
+    void setUp() {
+        var resourceBundleMessageSource = new ResourceBundleMessageSource();
+        resourceBundleMessageSource.setBasename("messages");
+        resourceBundleMessageSource.setDefaultEncoding(StandardCharsets.UTF_8.name());
+        resourceBundleMessageSource.setFallbackToSystemLocale(false);
+        messageSource = spy(resourceBundleMessageSource);
+
+        insuranceErrorMessages = new InsuranceErrorMessages(messageSource, new ApplicationProperties());
+        insuranceErrorMessages.init();
+    }
+
+    @Test
+    void getMessage_supportedLocale_localizedMessage() {
+        assertEquals("Nothing was found.", insuranceErrorMessages.getMessage(InsuranceErrorType.NOT_FOUND, "en"));
+        assertEquals("اطلاعاتی یافت نشد.", insuranceErrorMessages.getMessage(InsuranceErrorType.NOT_FOUND, "fa-IR"));
+    }
+
+    @Test
+    void getMessage_missingOrUnsupportedLocale_englishMessage() {
+        assertEquals("Nothing was found.", insuranceErrorMessages.getMessage(InsuranceErrorType.NOT_FOUND, null));
+        assertEquals("Nothing was found.", insuranceErrorMessages.getMessage(InsuranceErrorType.NOT_FOUND, "de"));
+    }
+
+    @Test
+    void getMessage_resolvedOnceAtStartup() {
+        clearInvocations(messageSource);
+
+        insuranceErrorMessages.getMessage(InsuranceErrorType.BAD_REQUEST, "fa");
+        insuranceErrorMessages.getMessage(InsuranceErrorType.BAD_REQUEST, "en");
+
+        verify(messageSource, never()).getMessage(anyString(), any(), any(Locale.class));
+    }
+}
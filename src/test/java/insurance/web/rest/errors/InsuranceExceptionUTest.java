@@ -0,0 +1,27 @@
+package insurance.web.rest.errors;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InsuranceExceptionUTest {
+
+    @Test
+    void regular_keepsStackTraceAndSuppression() {
+        var ex = new InsuranceException(InsuranceErrorType.NOT_FOUND);
+        ex.addSuppressed(new IllegalStateException("cleanup failed"));
+
+        assertTrue(ex.getStackTrace().length > 0);
+        assertEquals(1, ex.getSuppressed().length);
+    }
+
+    @Test
+    void stackless_noStackTraceOrSuppression() {
+        var ex = InsuranceException.stackless(InsuranceErrorType.NOT_FOUND);
+        ex.addSuppressed(new IllegalStateException("cleanup failed"));
+
+        assertEquals(0, ex.getStackTrace().length);
+        assertEquals(0, ex.getSuppressed().length);
+        assertEquals(InsuranceErrorType.NOT_FOUND.getMessageKey(), ex.getMessage());
+    }
+}
@@ -0,0 +1,69 @@
+package insurance.web.rest.limit;
+
+import insurance.config.ApplicationProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterUTest {
+    private static final long NORMAL_LATENCY = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW_LATENCY = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        var properties = new ApplicationProperties.ConcurrencyLimit();
+        properties.setInitialLimit(4);
+        properties.setMinLimit(2);
+        properties.setMaxLimit(5);
+        properties.setLatencyTolerance(2.0);
+        properties.setBackoffRatio(0.5);
+
+        limiter = new AdaptiveConcurrencyLimiter(properties);
+    }
+
+    @Test
+    void tryAcquire_overLimit_rejected() {
+        for (var i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+
+        assertFalse(limiter.tryAcquire());
+        assertEquals(4, limiter.getInFlight());
+    }
+
+    @Test
+    void release_slowRequests_shrinkLimitDownToMin() {
+        sample(NORMAL_LATENCY);
+
+        sample(SLOW_LATENCY);
+        assertEquals(2, limiter.getLimit());
+
+        sample(SLOW_LATENCY);
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    void release_normalRequestsUnderLoad_growLimitUpToMax() {
+        sample(NORMAL_LATENCY);
+
+        for (var i = 0; i < 3; i++) {
+            assertTrue(limiter.tryAcquire());
+            assertTrue(limiter.tryAcquire());
+            limiter.release(NORMAL_LATENCY);
+            limiter.release(NORMAL_LATENCY);
+        }
+
+        assertEquals(5, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    private void sample(long latencyNanos) {
+        assertTrue(limiter.tryAcquire());
+        limiter.release(latencyNanos);
+    }
+}
@@ -0,0 +1,110 @@
+package insurance.web.rest.limit;
+
+import insurance.config.ApplicationProperties;
+import insurance.web.rest.consts.Header;
+import insurance.web.rest.errors.InsuranceErrorType;
+import insurance.web.rest.errors.InsuranceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientRateLimitInterceptorUTest {
+    private static final String PROXY = "10.0.0.1";
+
+    private ClientRateLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        var applicationProperties = new ApplicationProperties();
+        var properties = applicationProperties.getRateLimit();
+        properties.setLimitForPeriod(1);
+        properties.setRefreshPeriod(Duration.ofHours(1));
+        properties.setMaxClients(2);
+        properties.setTrustedProxies(List.of(PROXY));
+
+        interceptor = new ClientRateLimitInterceptor(applicationProperties);
+    }
+
+    @Test
+    void preHandle_overLimit_tooManyRequestsWithRetryAfter() {
+        assertTrue(preHandle(request("192.168.0.1")));
+
+        var response = new MockHttpServletResponse();
+        var ex = assertThrows(InsuranceException.class, () -> interceptor.preHandle(request("192.168.0.1"), response, null));
+
+        assertEquals(InsuranceErrorType.TOO_MANY_REQUESTS, ex.getInsuranceErrorType());
+        assertEquals("3600", response.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void preHandle_clientHeadersFromUntrustedAddress_ignored() {
+        var request = request("192.168.0.1");
+        request.addHeader(Header.FORWARDED_FOR, "172.16.0.1");
+        request.addHeader("X-Client-Id", "first");
+        assertTrue(preHandle(request));
+
+        var spoofed = request("192.168.0.1");
+        spoofed.addHeader(Header.FORWARDED_FOR, "172.16.0.2");
+        spoofed.addHeader("X-Client-Id", "second");
+
+        assertThrows(InsuranceException.class, () -> preHandle(spoofed));
+    }
+
+    @Test
+    void preHandle_behindTrustedProxy_bucketPerForwardedAddress() {
+        assertTrue(preHandle(forwarded("172.16.0.1")));
+        assertTrue(preHandle(forwarded("172.16.0.2")));
+
+        assertThrows(InsuranceException.class, () -> preHandle(forwarded("172.16.0.1")));
+    }
+
+    @Test
+    void preHandle_forwardedForPrefixedByClient_lastUntrustedAddressUsed() {
+        assertTrue(preHandle(forwarded("1.1.1.1, 172.16.0.1")));
+
+        assertThrows(InsuranceException.class, () -> preHandle(forwarded("2.2.2.2, 172.16.0.1")));
+    }
+
+    @Test
+    void preHandle_authenticatedPrincipal_bucketPerPrincipal() {
+        var alice = request(PROXY);
+        alice.setUserPrincipal(() -> "alice");
+        var bob = request(PROXY);
+        bob.setUserPrincipal(() -> "bob");
+
+        assertTrue(preHandle(alice));
+        assertTrue(preHandle(bob));
+    }
+
+    @Test
+    void preHandle_maxClientsReached_newClientsShareOneBucket() {
+        assertTrue(preHandle(request("192.168.0.1")));
+        assertTrue(preHandle(request("192.168.0.2")));
+
+        assertTrue(preHandle(request("192.168.0.3")));
+        assertThrows(InsuranceException.class, () -> preHandle(request("192.168.0.4")));
+    }
+
+    private boolean preHandle(MockHttpServletRequest request) {
+        return interceptor.preHandle(request, new MockHttpServletResponse(), null);
+    }
+
+    private static MockHttpServletRequest request(String remoteAddress) {
+        var request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddress);
+        return request;
+    }
+
+    private static MockHttpServletRequest forwarded(String forwardedFor) {
+        var request = request(PROXY);
+        request.addHeader(Header.FORWARDED_FOR, forwardedFor);
+        return request;
+    }
+}